@@ -0,0 +1,84 @@
+package scrabble.Controller;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import scrabble.Game;
+import scrabble.GameListener;
+import scrabble.Model.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The GameProperties class adapts the state of a headless {@link Game} to JavaFX properties, so that the controllers
+ * of the game windows can bind to it. The properties are updated from the events of the game, a single instance is
+ * shared by all windows of a game.
+ */
+public class GameProperties implements GameListener {
+    private final IntegerProperty currentPlayerIndex;
+    private final ObjectProperty<Game.GAME_STATE> gameState;
+    private final BooleanProperty invalidWord;
+    private final Map<Player, IntegerProperty> points;
+
+    /**
+     * Creates the properties of the given game and registers them as a listener of the game.
+     *
+     * @param game the game to adapt, which has to be set up already
+     */
+    public GameProperties(Game game) {
+        currentPlayerIndex = new SimpleIntegerProperty(game.getCurrentPlayerIndex());
+        gameState = new SimpleObjectProperty<>(game.getGameState());
+        invalidWord = new SimpleBooleanProperty(game.isInvalidWord());
+        points = new HashMap<>();
+        for (Player player : game.getPlayers()) {
+            points.put(player, new SimpleIntegerProperty(player.getPoints()));
+        }
+        game.addGameListener(this);
+    }
+
+    @Override
+    public void onCurrentPlayerChanged(int currentPlayerIndex) {
+        this.currentPlayerIndex.set(currentPlayerIndex);
+    }
+
+    @Override
+    public void onGameStateChanged(Game.GAME_STATE gameState) {
+        this.gameState.set(gameState);
+    }
+
+    @Override
+    public void onInvalidWordChanged(boolean invalidWord) {
+        this.invalidWord.set(invalidWord);
+    }
+
+    @Override
+    public void onPointsChanged(Player player, int points) {
+        pointsProperty(player).set(points);
+    }
+
+    public IntegerProperty currentPlayerIndexProperty() {
+        return currentPlayerIndex;
+    }
+
+    public ObjectProperty<Game.GAME_STATE> gameStateProperty() {
+        return gameState;
+    }
+
+    public BooleanProperty invalidWordProperty() {
+        return invalidWord;
+    }
+
+    /**
+     * Returns the score of the given player as a property.
+     *
+     * @param player a player of the game
+     * @return the points property of the player
+     */
+    public IntegerProperty pointsProperty(Player player) {
+        return points.computeIfAbsent(player, key -> new SimpleIntegerProperty(key.getPoints()));
+    }
+}
@@ -3,14 +3,18 @@ package scrabble.Controller;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
+import javafx.scene.image.Image;
 import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.DragEvent;
 import javafx.scene.input.Dragboard;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
@@ -21,12 +25,16 @@ import javafx.stage.Stage;
 import scrabble.Game;
 import scrabble.Log.Logging;
 import scrabble.Model.Board;
-import scrabble.Model.Field;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
 import scrabble.Model.Player;
 import scrabble.Model.Tile;
 import scrabble.config.Config;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.logging.Level;
@@ -38,15 +46,28 @@ import java.util.logging.Logger;
  * the game board, player hand, scoreboard, and buttons for interacting with the game. It contains
  * methods for setting up the initial state of the view, initializing the game board, updating the UI
  * when changes occur, and adding listeners for button clicks and other user interactions.
+ * The panes of the board are kept in an index by row and column, and after a turn only the cells of the tiles which
+ * were placed since the board was painted last are painted again. The panes of the board and the hand are recycled by a
+ * {@link TileNodeCache} and share one set of drag and drop handlers, which are installed when a pane is created.
+ * Each pane of the hand carries its {@link Tile} as user data, and the tiles which are dropped on the board during a
+ * turn are tracked as {@link PlacedTile}s, from which the move is built when the turn is finished.
  */
 public class GameViewController {
     private Player player;
     private Game game;
+    private GameProperties gameProperties;
     private Stage stage;
     private ResourceBundle messages;
     private BooleanProperty isHelpWindowOpen;
     private Stage helpStage;
-    private Pane source;
+    private StackPane source;
+    private final StackPane[][] cells = new StackPane[Config.BOARD_ROW_SIZE][Config.BOARD_COL_SIZE];
+    private Board paintedBoard = new Board();
+    private final Map<StackPane, PlacedTile> placements = new LinkedHashMap<>();
+    private final EventHandler<MouseEvent> dragDetectedHandler = this::handleDragDetected;
+    private final EventHandler<DragEvent> dragDoneHandler = this::handleDragDone;
+    private final EventHandler<DragEvent> dragDroppedHandler = this::handleDragDropped;
+    private final TileNodeCache tileNodes = new TileNodeCache(this::createTilePane);
     private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
 
     @FXML
@@ -85,14 +106,17 @@ public class GameViewController {
     /**
      * Sets up the GameViewController with the given player, game, stage, and resource bundle.
      *
-     * @param player   the player to set up the view for
-     * @param game     the game to set up the view for
-     * @param stage    the stage to set up the view on
-     * @param messages the resource bundle containing the game's messages
+     * @param player         the player to set up the view for
+     * @param game           the game to set up the view for
+     * @param gameProperties the properties of the game shared by all game windows
+     * @param stage          the stage to set up the view on
+     * @param messages       the resource bundle containing the game's messages
      */
-    public void setUpGameViewController(Player player, Game game, Stage stage, ResourceBundle messages) {
+    public void setUpGameViewController(Player player, Game game, GameProperties gameProperties, Stage stage,
+                                        ResourceBundle messages) {
         this.player = player;
         this.game = game;
+        this.gameProperties = gameProperties;
         this.stage = stage;
         this.messages = messages;
         this.isHelpWindowOpen = new SimpleBooleanProperty(false);
@@ -122,14 +146,23 @@ public class GameViewController {
     private void addPanes() {
         for (int y = 0; y < Config.BOARD_ROW_SIZE; y++) {
             for (int x = 0; x < Config.BOARD_COL_SIZE; x++) {
-                StackPane stackPane = createStackPane(18, 15, 150, 150);
+                StackPane stackPane = tileNodes.acquire();
                 gridPane.add(stackPane, x, y);
                 GridPane.setRowIndex(stackPane, y);
                 GridPane.setColumnIndex(stackPane, x);
+                cells[y][x] = stackPane;
             }
         }
     }
 
+    private StackPane createTilePane() {
+        StackPane stackPane = createStackPane(18, 15, 150, 150);
+        stackPane.setOnDragDetected(dragDetectedHandler);
+        stackPane.setOnDragDone(dragDoneHandler);
+        stackPane.setOnDragDropped(dragDroppedHandler);
+        return stackPane;
+    }
+
     private StackPane createStackPane(int bigXOffset, int bigYOffset, int smallXOffset, int smallYOffset) {
         StackPane stackPane = new StackPane();
         stackPane.setPrefSize(50, 50);
@@ -158,6 +191,7 @@ public class GameViewController {
     }
 
     private void setEffectToPane(StackPane pane, int x, int y) {
+        pane.getStyleClass().removeAll("doubleLetter", "doubleWord", "tripleLetter", "tripleWord");
         switch (game.getBoard().getField(y, x).getEffect()) {
             case DOUBLE_LETTER -> {
                 pane.getStyleClass().add("doubleLetter");
@@ -181,13 +215,12 @@ public class GameViewController {
     }
 
     private StackPane getStackPane(int x, int y) {
-        for (Node node : gridPane.getChildren()) {
-            if (Objects.nonNull(GridPane.getRowIndex(node)) && (GridPane.getRowIndex(node) == y)
-                    && (GridPane.getColumnIndex(node) == x) && (node instanceof StackPane stackPane)) {
-                return stackPane;
-            }
-        }
-        throw new IllegalArgumentException("GridPane doesnt contain coordinates");
+        return cells[y][x];
+    }
+
+    private void setCell(StackPane pane, int x, int y) {
+        gridPane.add(pane, x, y);
+        cells[y][x] = pane;
     }
 
     private void setFieldText(Pane pane, String big, String small) {
@@ -199,6 +232,7 @@ public class GameViewController {
 
     private void drawUIFromSource() {
         infoLabel.setVisible(false);
+        placements.clear();
         drawEmptyField();
         updateUI();
     }
@@ -207,11 +241,13 @@ public class GameViewController {
         for (int y = 0; y < Config.BOARD_ROW_SIZE; y++) {
             for (int x = 0; x < Config.BOARD_COL_SIZE; x++) {
                 StackPane pane = getStackPane(x, y);
-                pane.getStyleClass().remove("tile");
+                pane.getStyleClass().removeAll("tile", "field");
                 pane.getStyleClass().add("field");
+                pane.setUserData(null);
                 setEffectToPane(pane, x, y);
             }
         }
+        paintedBoard = new Board();
     }
 
     private void updateUI() {
@@ -219,70 +255,98 @@ public class GameViewController {
         updateHand(player.getTileList());
     }
 
+    /**
+     * Paints the tiles which were placed on the board since it was painted last. The changed squares are found by
+     * comparing the occupied squares of the board with the painted board.
+     *
+     * @param board the board of the game
+     */
     private void updateBoard(Board board) {
-        for (int y = 0; y < Config.BOARD_ROW_SIZE; y++) {
-            for (int x = 0; x < Config.BOARD_COL_SIZE; x++) {
-                Field field = board.getField(y, x);
-                StackPane pane = getStackPane(x, y);
-                if (field.isOccupied()) {
-                    setFieldText(pane, String.valueOf(field.getOccupant().letter()), String.valueOf(field.getOccupant().value()));
-                    enableDragging(pane);
-                    pane.getStyleClass().add("tile");
-                } else {
-                    addDropListener(pane);
-                }
+        for (int index = board.nextAddedSquare(paintedBoard, 0); index >= 0;
+             index = board.nextAddedSquare(paintedBoard, index + 1)) {
+            StackPane pane = getStackPane(Board.column(index), Board.row(index));
+            setFieldText(pane, String.valueOf(board.getLetter(index)), String.valueOf(board.getValue(index)));
+            if (!pane.getStyleClass().contains("tile")) {
+                pane.getStyleClass().add("tile");
             }
         }
+        paintedBoard = new Board(board);
     }
 
-    private void enableDragging(Pane pane) {
-        pane.setOnDragDetected(event -> {
-            if (game.getCurrentPlayer().equals(player)) {
-                Dragboard dragboard = pane.startDragAndDrop(TransferMode.MOVE);
-                ClipboardContent content = new ClipboardContent();
-                content.putString("pane");
-                pane.setOpacity(0.5);
-                dragboard.setDragView(pane.snapshot(null, null));
-                dragboard.setDragViewOffsetX(event.getX());
-                dragboard.setDragViewOffsetY(event.getY());
-                dragboard.setContent(content);
-                source = pane;
-                event.consume();
-            }
-        });
+    /**
+     * Starts to drag a tile of the hand or a tile which was placed on the board in this turn. The tiles of the board
+     * which were committed by earlier moves cannot be dragged.
+     *
+     * @param event the mouse event on the pane
+     */
+    private void handleDragDetected(MouseEvent event) {
+        StackPane pane = (StackPane) event.getSource();
+        if (game.getCurrentPlayer().equals(player) && (hand.equals(pane.getParent()) || placements.containsKey(pane))) {
+            Dragboard dragboard = pane.startDragAndDrop(TransferMode.MOVE);
+            ClipboardContent content = new ClipboardContent();
+            content.putString("pane");
+            pane.setOpacity(0.5);
+            dragboard.setDragView(dragImage(pane));
+            dragboard.setDragViewOffsetX(event.getX());
+            dragboard.setDragViewOffsetY(event.getY());
+            dragboard.setContent(content);
+            source = pane;
+            event.consume();
+        }
+    }
 
-        pane.setOnDragDone(event -> pane.setOpacity(1));
-    }
-
-    private void addDropListener(Pane target) {
-        target.setOnDragDropped(event -> {
-            if (game.getCurrentPlayer().equals(player)) {
-                Dragboard db = event.getDragboard();
-                if (db.hasString()) {
-                    int x = GridPane.getColumnIndex(target);
-                    int y = GridPane.getRowIndex(target);
-                    source.setOpacity(1);
-                    cancelSetting.setDisable(false);
-                    if (gridPane.equals(source.getParent())) restoreGameField();
-                    gridPane.getChildren().remove(target);
-                    gridPane.getChildren().remove(source);
-                    gridPane.add(source, x, y);
-                    event.setDropCompleted(true);
-                } else {
-                    event.setDropCompleted(false);
+    /**
+     * Returns the image shown while a pane is dragged. Only tiles of the hand are dragged, which look the same for the
+     * same letter and value, so their image is taken from the cache.
+     *
+     * @param pane the dragged pane
+     * @return the drag image of the pane
+     */
+    private Image dragImage(StackPane pane) {
+        Tile tile = (Tile) pane.getUserData();
+        return tileNodes.dragImage(tile.letter(), tile.value(), key -> pane.snapshot(null, null));
+    }
+
+    private void handleDragDone(DragEvent event) {
+        ((StackPane) event.getSource()).setOpacity(1);
+    }
+
+    private void handleDragDropped(DragEvent event) {
+        StackPane target = (StackPane) event.getSource();
+        if (game.getCurrentPlayer().equals(player) && gridPane.equals(target.getParent())) {
+            Dragboard db = event.getDragboard();
+            if (db.hasString() && !target.getStyleClass().contains("tile")) {
+                int x = GridPane.getColumnIndex(target);
+                int y = GridPane.getRowIndex(target);
+                source.setOpacity(1);
+                cancelSetting.setDisable(false);
+                if (gridPane.equals(source.getParent())) restoreGameField();
+                gridPane.getChildren().remove(target);
+                gridPane.getChildren().remove(source);
+                tileNodes.release(target);
+                setCell(source, x, y);
+                if (source.getUserData() instanceof Tile tile) {
+                    placements.put(source, new PlacedTile(y, x, tile));
                 }
-                event.consume();
+                event.setDropCompleted(true);
+            } else {
+                event.setDropCompleted(false);
             }
-        });
+            event.consume();
+        }
     }
 
     private void updateHand(List<Tile> tileList) {
+        for (Node handElement : hand.getChildren()) {
+            tileNodes.release((StackPane) handElement);
+        }
         hand.getChildren().clear();
         for (int i = 0; i < tileList.size(); i++) {
-            StackPane handElement = createStackPane(12, 10, 30, 30);
+            StackPane handElement = tileNodes.acquire();
+            Tile tile = tileList.get(i);
             handElement.getStyleClass().add("tile");
-            setFieldText(handElement, String.valueOf(tileList.get(i).letter()), String.valueOf(tileList.get(i).value()));
-            enableDragging(handElement);
+            handElement.setUserData(tile);
+            setFieldText(handElement, String.valueOf(tile.letter()), String.valueOf(tile.value()));
             hand.add(handElement, i, 0);
         }
     }
@@ -300,9 +364,9 @@ public class GameViewController {
 
     private void addListeners() {
         stage.setOnCloseRequest(event -> game.handleEndingForCloseWindow());
-        player.getPoints().addListener((observable, oldValue, newValue) -> this.scoreboard.setText(createScoreboardString()));
-        game.gameStateProperty().addListener((observable, oldValue, newValue) -> handleGameEnding(newValue));
-        game.invalidWordProperty().addListener((observable, oldValue, newValue) -> {
+        gameProperties.pointsProperty(player).addListener((observable, oldValue, newValue) -> this.scoreboard.setText(createScoreboardString()));
+        gameProperties.gameStateProperty().addListener((observable, oldValue, newValue) -> handleGameEnding(newValue));
+        gameProperties.invalidWordProperty().addListener((observable, oldValue, newValue) -> {
             if (newValue) {
                 infoLabel.setVisible(true);
                 infoLabel.setText(messages.getString("finishTurnError"));
@@ -310,7 +374,7 @@ public class GameViewController {
                 infoLabel.setVisible(false);
             }
         });
-        game.getCurrentPlayerIndex().addListener((observable, oldValue, newValue) -> {
+        gameProperties.currentPlayerIndexProperty().addListener((observable, oldValue, newValue) -> {
             setText();
             changeButtonsUsability();
             updateUI();
@@ -331,9 +395,9 @@ public class GameViewController {
         int counter = 1;
         for (Player player : game.getPlayers()) {
             if (counter == game.getPlayers().size())
-                stringBuilder.append(player.getPlayerName()).append(": ").append(player.getPoints().get());
+                stringBuilder.append(player.getPlayerName()).append(": ").append(player.getPoints());
             else if (counter < game.getPlayers().size()) {
-                stringBuilder.append(player.getPlayerName()).append(": ").append(player.getPoints().get()).append(" | ");
+                stringBuilder.append(player.getPlayerName()).append(": ").append(player.getPoints()).append(" | ");
             }
             counter++;
         }
@@ -343,11 +407,10 @@ public class GameViewController {
     private void restoreGameField() {
         int x = GridPane.getColumnIndex(source);
         int y = GridPane.getRowIndex(source);
-        StackPane stackPane = createStackPane(18, 15, 150, 150);
+        StackPane stackPane = tileNodes.acquire();
         stackPane.getStyleClass().add("field");
         setEffectToPane(stackPane, x, y);
-        addDropListener(stackPane);
-        gridPane.add(stackPane, x, y);
+        setCell(stackPane, x, y);
     }
 
     @FXML
@@ -358,24 +421,21 @@ public class GameViewController {
 
     @FXML
     void finishTurn() {
-        Board currentBoard = new Board();
-        gridPane.getChildren().forEach(node -> {
-            if (node instanceof Pane) {
-                Pane pane = (Pane) node;
-                int x = GridPane.getColumnIndex(pane);
-                int y = GridPane.getRowIndex(pane);
-                if (pane.getStyleClass().contains("tile")) {
-                    char letter = ((Label) pane.getChildren().get(0)).getText().charAt(0);
-                    int value = Integer.parseInt(((Label) pane.getChildren().get(1)).getText());
-                    currentBoard.setTile(new Tile(letter, value), y, x);
-                }
+        List<PlacedTile> placedTiles = new ArrayList<>(placements.size());
+        for (PlacedTile placedTile : placements.values()) {
+            if (!game.getBoard().isOccupied(placedTile.row(), placedTile.col())) {
+                placedTiles.add(placedTile);
             }
-        });
+        }
 
-        if(!game.playerFinishTurn(currentBoard)) {
-            game.invalidWordProperty().set(true);
+        if(!game.playerFinishTurn(new Move(placedTiles))) {
+            game.setInvalidWord(true);
         } else {
-            game.invalidWordProperty().set(false);
+            for (StackPane pane : placements.keySet()) {
+                pane.setUserData(null);
+            }
+            placements.clear();
+            game.setInvalidWord(false);
         }
     }
 
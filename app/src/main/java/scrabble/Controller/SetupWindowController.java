@@ -1,5 +1,6 @@
 package scrabble.Controller;
 
+import javafx.concurrent.Task;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
@@ -8,6 +9,7 @@ import javafx.stage.Stage;
 import scrabble.Game;
 import scrabble.Log.Logging;
 import scrabble.Model.Player;
+import scrabble.WordValidatorRegistry;
 import scrabble.config.Config;
 import javafx.fxml.FXML;
 import javafx.scene.layout.HBox;
@@ -26,6 +28,8 @@ import java.util.stream.Collectors;
 public class SetupWindowController {
 
     private Boolean languageIsSet = false;
+    private boolean wordListIsLoaded = false;
+    private Task<Void> wordListLoadingTask;
     private static final Logger logger = Logger.getLogger(Logging.class.getName());
     private Stage primaryStage;
     private final Locale englishLocal = new Locale("en");
@@ -75,6 +79,15 @@ public class SetupWindowController {
     @FXML
     private Label welcome;
 
+    @FXML
+    private HBox hboxLoading;
+
+    @FXML
+    private Label loadingLabel;
+
+    @FXML
+    private ProgressBar loadingProgress;
+
     @FXML
     private TextField player1;
 
@@ -94,11 +107,12 @@ public class SetupWindowController {
     @FXML
     private void createGame() {
         game.setUpGame(chosenLanguage, createPlayerList(Integer.parseInt(numberOfPlayers.getText())));
-        game.getPlayers().forEach(player -> openGameWindow(player, game));
+        GameProperties gameProperties = new GameProperties(game);
+        game.getPlayers().forEach(player -> openGameWindow(player, game, gameProperties));
         primaryStage.close();
     }
 
-    private void openGameWindow(Player player, Game game) {
+    private void openGameWindow(Player player, Game game, GameProperties gameProperties) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/GameView.fxml"));
             Pane rootPane = loader.load();
@@ -108,7 +122,7 @@ public class SetupWindowController {
             gameWindow.setMinHeight(900);
             gameWindow.setMinWidth(900);
             GameViewController gameViewController = loader.getController();
-            gameViewController.setUpGameViewController(player, game, gameWindow, messages);
+            gameViewController.setUpGameViewController(player, game, gameProperties, gameWindow, messages);
             gameWindow.setTitle(messages.getString("gameViewName") + " " + messages.getString("player")  + ": " + player.getPlayerName());
             gameWindow.show();
             logger.log(Level.INFO, "Game window created for: {0}.", player.getPlayerName());
@@ -141,6 +155,7 @@ public class SetupWindowController {
         hboxPlayer2.setVisible(false);
         hboxPlayer3.setVisible(false);
         hboxPlayer4.setVisible(false);
+        hboxLoading.setVisible(false);
     }
 
     /**
@@ -163,13 +178,52 @@ public class SetupWindowController {
         languageIsSet = true;
         chooseLanguage.setText(language.toString());
         chosenLanguage = language;
-        checkIfCreateGameButtonShouldBeEnabled();
         switch (language) {
             case DE -> messages = ResourceBundle.getBundle("messages", germanLocal);
             case EN -> messages = ResourceBundle.getBundle("messages", englishLocal);
             default -> throw new IllegalStateException("Unexpected value: " + language);
         }
         updateText();
+        loadWordList(language);
+    }
+
+    /**
+     * Loads the word list of the chosen language in the background and shows the progress in the setup window.
+     * The create game button stays disabled until the word list is loaded.
+     *
+     * @param language the language whose word list is loaded
+     */
+    private void loadWordList(Config.LANGUAGE language) {
+        if (wordListLoadingTask != null) {
+            wordListLoadingTask.cancel();
+        }
+        wordListIsLoaded = false;
+        checkIfCreateGameButtonShouldBeEnabled();
+        Task<Void> task = new Task<>() {
+            @Override
+            protected Void call() throws Exception {
+                WordValidatorRegistry.getInstance().preload(language, this::updateProgress);
+                return null;
+            }
+        };
+        task.setOnSucceeded(event -> {
+            hboxLoading.setVisible(false);
+            wordListIsLoaded = true;
+            checkIfCreateGameButtonShouldBeEnabled();
+        });
+        task.setOnFailed(event -> {
+            logger.log(Level.SEVERE, "The word list could not be loaded.", task.getException());
+            loadingLabel.setText(messages.getString("loadingWordListFailed"));
+            loadingProgress.setVisible(false);
+        });
+        loadingLabel.setText(messages.getString("loadingWordList"));
+        loadingProgress.setVisible(true);
+        loadingProgress.progressProperty().bind(task.progressProperty());
+        hboxLoading.setVisible(true);
+        wordListLoadingTask = task;
+        Thread thread = new Thread(task, "word-list-loader");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     private void updateText(){
@@ -185,7 +239,8 @@ public class SetupWindowController {
     }
 
     /**
-     * Checks if the create game button should be enabled based on whether all player names have been validated and the language has been set.
+     * Checks if the create game button should be enabled based on whether all player names have been validated, the language has been set
+     * and its word list has been loaded.
      */
     private void checkIfCreateGameButtonShouldBeEnabled() {
         boolean allPlayersValidated = true;
@@ -201,7 +256,7 @@ public class SetupWindowController {
             allPlayersValidated = false;
         }
         if (languageIsSet) {
-            createGameButton.setDisable(!allPlayersValidated);
+            createGameButton.setDisable(!allPlayersValidated || !wordListIsLoaded);
         }
     }
 
@@ -0,0 +1,73 @@
+package scrabble.Controller;
+
+import javafx.scene.image.Image;
+import javafx.scene.layout.StackPane;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The TileNodeCache class recycles the panes of the board and the hand of a game window and caches the drag images of
+ * the tiles. Panes which are removed from the view are released to the pool and handed out again instead of creating
+ * new panes with their labels and handlers. The drag image of a tile only depends on its letter and value, so it is
+ * rendered once per letter and value and reused for every further drag.
+ * <p>
+ * The cache is confined to the JavaFX application thread, like the nodes it manages.
+ */
+class TileNodeCache {
+    private final Supplier<StackPane> factory;
+    private final Deque<StackPane> pool = new ArrayDeque<>();
+    private final Map<Integer, Image> dragImages = new HashMap<>();
+
+    /**
+     * Creates a cache which creates new panes with the given factory when the pool is empty.
+     *
+     * @param factory the factory of new panes, which installs the handlers of a pane
+     */
+    TileNodeCache(Supplier<StackPane> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a pane from the pool or a new one if the pool is empty. The pane has no style classes and no user data,
+     * is visible and enabled.
+     *
+     * @return a pane which is not part of the view
+     */
+    StackPane acquire() {
+        StackPane pane = pool.poll();
+        if (pane == null) {
+            return factory.get();
+        }
+        pane.getStyleClass().clear();
+        pane.setUserData(null);
+        pane.setOpacity(1);
+        pane.setDisable(false);
+        return pane;
+    }
+
+    /**
+     * Returns a pane which has been removed from the view to the pool.
+     *
+     * @param pane the pane to recycle
+     */
+    void release(StackPane pane) {
+        pool.push(pane);
+    }
+
+    /**
+     * Returns the drag image of a tile with the given letter and value and renders it on first use.
+     *
+     * @param letter   the letter of the tile
+     * @param value    the value of the tile
+     * @param renderer renders the image if it is not cached yet
+     * @return the drag image of the tile
+     */
+    Image dragImage(char letter, int value, Function<Integer, Image> renderer) {
+        return dragImages.computeIfAbsent(letter << 16 | value, renderer);
+    }
+}
@@ -0,0 +1,499 @@
+package scrabble.Dictionary;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The Dawg class is an immutable, minimized directed acyclic word graph (DAWG).
+ * Nodes and edges are stored in flat primitive arrays: the edges of a node are stored contiguously and sorted by
+ * letter, a node is terminal if a word ends on it, and every node knows how many words can be reached from it.
+ * The word counts allow the graph to act as a minimal perfect hash which maps every word to its index in
+ * the lexicographically sorted word list.
+ * The arrays are held in NIO buffers, so a DAWG can either live on the heap or be read directly from a
+ * memory-mapped lexicon file without copying.
+ */
+public final class Dawg {
+    /**
+     * Returned by the traversal methods if there is no node for the given letter.
+     */
+    public static final int NO_NODE = -1;
+    /**
+     * The index of the root node.
+     */
+    public static final int ROOT = 0;
+
+    private final IntBuffer edgeStart;
+    private final IntBuffer wordCount;
+    private final LongBuffer terminal;
+    private final CharBuffer edgeLetter;
+    private final IntBuffer edgeTarget;
+
+    private Dawg(IntBuffer edgeStart, IntBuffer wordCount, LongBuffer terminal, CharBuffer edgeLetter,
+                 IntBuffer edgeTarget) {
+        this.edgeStart = edgeStart;
+        this.wordCount = wordCount;
+        this.terminal = terminal;
+        this.edgeLetter = edgeLetter;
+        this.edgeTarget = edgeTarget;
+    }
+
+    /**
+     * Reads a DAWG which was written with {@link #writeTo(DataOutputStream)} from the current position of the
+     * buffer. The returned DAWG is a view on the buffer, the position of the buffer is moved behind the DAWG.
+     *
+     * @param buffer the buffer to read from
+     * @return the DAWG backed by the buffer
+     * @throws IllegalArgumentException if the buffer does not contain a valid DAWG
+     */
+    public static Dawg readFrom(ByteBuffer buffer) {
+        int nodeCount = buffer.getInt();
+        int edgeCount = buffer.getInt();
+        if (nodeCount <= 0 || edgeCount < 0) {
+            throw new IllegalArgumentException("Invalid DAWG header: " + nodeCount + " nodes, " + edgeCount + " edges");
+        }
+        IntBuffer edgeStart = slice(buffer, 4 * (nodeCount + 1)).asIntBuffer();
+        IntBuffer wordCount = slice(buffer, 4 * nodeCount).asIntBuffer();
+        IntBuffer edgeTarget = slice(buffer, 4 * edgeCount).asIntBuffer();
+        LongBuffer terminal = slice(buffer, 8 * ((nodeCount + 63) >>> 6)).asLongBuffer();
+        CharBuffer edgeLetter = slice(buffer, 2 * edgeCount).asCharBuffer();
+        return new Dawg(edgeStart, wordCount, terminal, edgeLetter, edgeTarget);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int length) {
+        ByteBuffer slice = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    /**
+     * Writes the DAWG in the binary format read by {@link #readFrom(ByteBuffer)}.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the DAWG could not be written
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(nodeCount());
+        out.writeInt(edgeCount());
+        for (int i = 0; i < edgeStart.limit(); i++) {
+            out.writeInt(edgeStart.get(i));
+        }
+        for (int i = 0; i < wordCount.limit(); i++) {
+            out.writeInt(wordCount.get(i));
+        }
+        for (int i = 0; i < edgeTarget.limit(); i++) {
+            out.writeInt(edgeTarget.get(i));
+        }
+        for (int i = 0; i < terminal.limit(); i++) {
+            out.writeLong(terminal.get(i));
+        }
+        for (int i = 0; i < edgeLetter.limit(); i++) {
+            out.writeChar(edgeLetter.get(i));
+        }
+    }
+
+    /**
+     * Builds a minimized DAWG from the given words.
+     *
+     * @param sortedWords the words in strictly ascending {@link String#compareTo} order without duplicates
+     * @return the minimized DAWG
+     * @throws IllegalArgumentException if the words are not sorted or contain duplicates
+     */
+    public static Dawg build(List<String> sortedWords) {
+        return new Builder().build(sortedWords);
+    }
+
+    /**
+     * Returns the child of the given node which is reached with the given letter.
+     *
+     * @param node   the node to start from
+     * @param letter the letter of the edge to follow
+     * @return the child node or {@link #NO_NODE} if the node has no edge with this letter
+     */
+    public int child(int node, char letter) {
+        int low = edgeStart.get(node);
+        int high = edgeStart.get(node + 1) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char current = edgeLetter.get(middle);
+            if (current < letter) {
+                low = middle + 1;
+            } else if (current > letter) {
+                high = middle - 1;
+            } else {
+                return edgeTarget.get(middle);
+            }
+        }
+        return NO_NODE;
+    }
+
+    /**
+     * Follows the letters of the given sequence starting at the given node.
+     *
+     * @param node     the node to start from
+     * @param sequence the letters to follow
+     * @return the node reached after the last letter or {@link #NO_NODE} if the path does not exist
+     */
+    public int walk(int node, CharSequence sequence) {
+        for (int i = 0; i < sequence.length() && node != NO_NODE; i++) {
+            node = child(node, sequence.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Checks whether a word ends on the given node.
+     *
+     * @param node the node to check
+     * @return true if the node is terminal
+     */
+    public boolean isTerminal(int node) {
+        return (terminal.get(node >>> 6) & (1L << node)) != 0;
+    }
+
+    /**
+     * Returns the index of the first edge of the given node. Together with {@link #edgeEnd(int)},
+     * {@link #edgeLetter(int)} and {@link #edgeTarget(int)} this allows iterating the children of a node
+     * without allocating anything.
+     *
+     * @param node the node
+     * @return the index of the first edge of the node
+     */
+    public int edgeBegin(int node) {
+        return edgeStart.get(node);
+    }
+
+    /**
+     * Returns the index after the last edge of the given node.
+     *
+     * @param node the node
+     * @return the exclusive end index of the edges of the node
+     */
+    public int edgeEnd(int node) {
+        return edgeStart.get(node + 1);
+    }
+
+    public char edgeLetter(int edge) {
+        return edgeLetter.get(edge);
+    }
+
+    public int edgeTarget(int edge) {
+        return edgeTarget.get(edge);
+    }
+
+    /**
+     * Checks whether the given sequence is a word of the DAWG.
+     *
+     * @param sequence the sequence to check
+     * @return true if the sequence is contained
+     */
+    public boolean contains(CharSequence sequence) {
+        int node = walk(ROOT, sequence);
+        return node != NO_NODE && isTerminal(node);
+    }
+
+    /**
+     * Checks whether the DAWG contains a word which matches the given pattern. Every wildcard in the pattern matches
+     * a single allowed letter, all other characters have to match exactly. The search walks the DAWG once and does
+     * not allocate anything, so the cost does not grow with the number of letters a wildcard can stand for.
+     *
+     * @param pattern        the pattern to match
+     * @param wildcard       the character which marks a wildcard in the pattern
+     * @param allowedLetters the letters a wildcard can stand for, indexed by letter
+     * @param resolved       receives the first matching word in ascending order, must be at least as long as the pattern
+     * @return true if a matching word exists
+     */
+    public boolean matches(CharSequence pattern, char wildcard, boolean[] allowedLetters, char[] resolved) {
+        return matches(ROOT, pattern, 0, wildcard, allowedLetters, resolved);
+    }
+
+    private boolean matches(int node, CharSequence pattern, int position, char wildcard, boolean[] allowedLetters,
+                            char[] resolved) {
+        if (position == pattern.length()) {
+            return isTerminal(node);
+        }
+        char letter = pattern.charAt(position);
+        if (letter != wildcard) {
+            int next = child(node, letter);
+            resolved[position] = letter;
+            return next != NO_NODE && matches(next, pattern, position + 1, wildcard, allowedLetters, resolved);
+        }
+        int end = edgeStart.get(node + 1);
+        for (int edge = edgeStart.get(node); edge < end; edge++) {
+            char candidate = edgeLetter.get(edge);
+            if (candidate < allowedLetters.length && allowedLetters[candidate]) {
+                resolved[position] = candidate;
+                if (matches(edgeTarget.get(edge), pattern, position + 1, wildcard, allowedLetters, resolved)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the given word in the lexicographically sorted word list.
+     *
+     * @param word the word to look up
+     * @return the index of the word or -1 if the word is not contained
+     */
+    public int indexOf(CharSequence word) {
+        int node = ROOT;
+        int index = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (isTerminal(node)) {
+                index++;
+            }
+            char letter = word.charAt(i);
+            int edge = edgeStart.get(node);
+            int end = edgeStart.get(node + 1);
+            while (edge < end && edgeLetter.get(edge) < letter) {
+                index += wordCount.get(edgeTarget.get(edge));
+                edge++;
+            }
+            if (edge == end || edgeLetter.get(edge) != letter) {
+                return -1;
+            }
+            node = edgeTarget.get(edge);
+        }
+        return isTerminal(node) ? index : -1;
+    }
+
+    /**
+     * Passes every word which starts with the given prefix to the consumer in ascending order.
+     *
+     * @param prefix   the prefix of the words
+     * @param consumer the consumer receiving the words
+     */
+    public void forEachWithPrefix(String prefix, Consumer<String> consumer) {
+        int node = walk(ROOT, prefix);
+        if (node != NO_NODE) {
+            collect(node, new StringBuilder(prefix), consumer);
+        }
+    }
+
+    private void collect(int node, StringBuilder word, Consumer<String> consumer) {
+        if (isTerminal(node)) {
+            consumer.accept(word.toString());
+        }
+        for (int edge = edgeStart.get(node); edge < edgeStart.get(node + 1); edge++) {
+            word.append(edgeLetter.get(edge));
+            collect(edgeTarget.get(edge), word, consumer);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    /**
+     * Returns the number of words which can be reached from the given node, including the node itself.
+     *
+     * @param node the node
+     * @return the number of words below the node
+     */
+    public int wordCount(int node) {
+        return wordCount.get(node);
+    }
+
+    public int size() {
+        return wordCount.get(ROOT);
+    }
+
+    public int nodeCount() {
+        return edgeStart.limit() - 1;
+    }
+
+    public int edgeCount() {
+        return edgeLetter.limit();
+    }
+
+    /**
+     * Returns the approximate number of bytes occupied by the buffers of this DAWG.
+     *
+     * @return the size in bytes
+     */
+    public long sizeInBytes() {
+        return 4L * edgeStart.limit() + 4L * wordCount.limit() + 8L * terminal.limit()
+                + 2L * edgeLetter.limit() + 4L * edgeTarget.limit();
+    }
+
+    /**
+     * Builds a DAWG with the incremental algorithm for sorted input by Daciuk et al.
+     * Nodes whose suffix can no longer change are merged with an equivalent registered node right away,
+     * so the mutable graph never grows much larger than the minimized result.
+     */
+    private static final class Builder {
+        private final Map<Node, Node> register = new HashMap<>();
+        private final List<Node> uncheckedNodes = new ArrayList<>();
+        private final Node root = new Node();
+
+        private Dawg build(List<String> sortedWords) {
+            String previousWord = "";
+            for (String word : sortedWords) {
+                if (!previousWord.isEmpty() && word.compareTo(previousWord) <= 0) {
+                    throw new IllegalArgumentException("Words must be sorted and unique: \"" + previousWord
+                            + "\" followed by \"" + word + "\"");
+                }
+                int commonPrefix = commonPrefixLength(previousWord, word);
+                minimize(commonPrefix);
+                Node node = uncheckedNodes.isEmpty() ? root : uncheckedNodes.get(uncheckedNodes.size() - 1);
+                for (int i = commonPrefix; i < word.length(); i++) {
+                    Node next = new Node();
+                    node.addEdge(word.charAt(i), next);
+                    uncheckedNodes.add(next);
+                    node = next;
+                }
+                node.terminal = true;
+                previousWord = word;
+            }
+            minimize(0);
+            return freeze();
+        }
+
+        private int commonPrefixLength(String first, String second) {
+            int length = Math.min(first.length(), second.length());
+            int i = 0;
+            while (i < length && first.charAt(i) == second.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+
+        private void minimize(int downTo) {
+            for (int i = uncheckedNodes.size() - 1; i >= downTo; i--) {
+                Node child = uncheckedNodes.remove(i);
+                Node parent = i == 0 ? root : uncheckedNodes.get(i - 1);
+                Node registered = register.putIfAbsent(child, child);
+                if (registered != null) {
+                    parent.replaceLastChild(registered);
+                }
+            }
+        }
+
+        private Dawg freeze() {
+            Map<Node, Integer> ids = new IdentityHashMap<>();
+            List<Node> order = new ArrayList<>();
+            ids.put(root, 0);
+            order.add(root);
+            int edges = 0;
+            for (int i = 0; i < order.size(); i++) {
+                Node node = order.get(i);
+                edges += node.size;
+                for (int j = 0; j < node.size; j++) {
+                    if (!ids.containsKey(node.children[j])) {
+                        ids.put(node.children[j], order.size());
+                        order.add(node.children[j]);
+                    }
+                }
+            }
+            int[] edgeStart = new int[order.size() + 1];
+            long[] terminal = new long[(order.size() + 63) >>> 6];
+            char[] edgeLetter = new char[edges];
+            int[] edgeTarget = new int[edges];
+            int edge = 0;
+            for (int i = 0; i < order.size(); i++) {
+                Node node = order.get(i);
+                edgeStart[i] = edge;
+                if (node.terminal) {
+                    terminal[i >>> 6] |= 1L << i;
+                }
+                for (int j = 0; j < node.size; j++) {
+                    edgeLetter[edge] = node.letters[j];
+                    edgeTarget[edge] = ids.get(node.children[j]);
+                    edge++;
+                }
+            }
+            edgeStart[order.size()] = edge;
+            return new Dawg(IntBuffer.wrap(edgeStart), IntBuffer.wrap(countWords(edgeStart, terminal, edgeTarget)),
+                    LongBuffer.wrap(terminal), CharBuffer.wrap(edgeLetter), IntBuffer.wrap(edgeTarget));
+        }
+
+        private int[] countWords(int[] edgeStart, long[] terminal, int[] edgeTarget) {
+            int nodeCount = edgeStart.length - 1;
+            int[] wordCount = new int[nodeCount];
+            Arrays.fill(wordCount, -1);
+            int[] stack = new int[nodeCount];
+            int[] nextEdge = new int[nodeCount];
+            for (int start = 0; start < nodeCount; start++) {
+                if (wordCount[start] >= 0) {
+                    continue;
+                }
+                int depth = 0;
+                stack[0] = start;
+                nextEdge[0] = edgeStart[start];
+                while (depth >= 0) {
+                    int node = stack[depth];
+                    if (nextEdge[depth] < edgeStart[node + 1]) {
+                        int target = edgeTarget[nextEdge[depth]++];
+                        if (wordCount[target] < 0) {
+                            depth++;
+                            stack[depth] = target;
+                            nextEdge[depth] = edgeStart[target];
+                        }
+                    } else {
+                        int count = (terminal[node >>> 6] & (1L << node)) != 0 ? 1 : 0;
+                        for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                            count += wordCount[edgeTarget[e]];
+                        }
+                        wordCount[node] = count;
+                        depth--;
+                    }
+                }
+            }
+            return wordCount;
+        }
+    }
+
+    /**
+     * A mutable node which is only used while building. Two nodes are equal if they have the same terminal state and
+     * edges with the same letters to the identical children, which is the equivalence used for minimization.
+     */
+    private static final class Node {
+        private char[] letters = new char[2];
+        private Node[] children = new Node[2];
+        private int size;
+        private boolean terminal;
+
+        private void addEdge(char letter, Node child) {
+            if (size == letters.length) {
+                letters = Arrays.copyOf(letters, size * 2);
+                children = Arrays.copyOf(children, size * 2);
+            }
+            letters[size] = letter;
+            children[size] = child;
+            size++;
+        }
+
+        private void replaceLastChild(Node child) {
+            children[size - 1] = child;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Node other) || terminal != other.terminal || size != other.size) return false;
+            for (int i = 0; i < size; i++) {
+                if (letters[i] != other.letters[i] || children[i] != other.children[i]) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = terminal ? 1 : 0;
+            for (int i = 0; i < size; i++) {
+                hash = 31 * hash + letters[i];
+                hash = 31 * hash + System.identityHashCode(children[i]);
+            }
+            return hash;
+        }
+    }
+}
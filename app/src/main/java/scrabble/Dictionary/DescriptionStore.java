@@ -0,0 +1,86 @@
+package scrabble.Dictionary;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The DescriptionStore class holds the descriptions of the words of a lexicon outside of the lookup structure.
+ * The descriptions are stored as UTF-8 bytes together with an offset table indexed by the index of the word in the
+ * lexicon. Both live in the memory-mapped lexicon file, a description is only decoded when it is asked for.
+ */
+public final class DescriptionStore {
+    private final IntBuffer offsets;
+    private final ByteBuffer data;
+
+    private DescriptionStore(IntBuffer offsets, ByteBuffer data) {
+        this.offsets = offsets;
+        this.data = data;
+    }
+
+    /**
+     * Reads a description store which was written with {@link #write(String[], DataOutputStream)} from the current
+     * position of the buffer. The store is a view on the buffer, the position of the buffer is moved behind the store.
+     *
+     * @param buffer the buffer to read from
+     * @return the description store backed by the buffer
+     * @throws IllegalArgumentException if the buffer does not contain a valid description store
+     */
+    public static DescriptionStore readFrom(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid number of descriptions: " + count);
+        }
+        IntBuffer offsets = buffer.slice(buffer.position(), 4 * (count + 1)).asIntBuffer();
+        buffer.position(buffer.position() + 4 * (count + 1));
+        int length = offsets.get(count);
+        ByteBuffer data = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return new DescriptionStore(offsets, data);
+    }
+
+    /**
+     * Writes the given descriptions in the binary format read by {@link #readFrom(ByteBuffer)}.
+     *
+     * @param descriptions the descriptions indexed by word, null or empty if a word has no description
+     * @param out          the stream to write to
+     * @throws IOException if the descriptions could not be written
+     */
+    public static void write(String[] descriptions, DataOutputStream out) throws IOException {
+        byte[][] encodedDescriptions = new byte[descriptions.length][];
+        out.writeInt(descriptions.length);
+        int offset = 0;
+        for (int i = 0; i < descriptions.length; i++) {
+            encodedDescriptions[i] = descriptions[i] == null ? new byte[0] : descriptions[i].getBytes(StandardCharsets.UTF_8);
+            out.writeInt(offset);
+            offset += encodedDescriptions[i].length;
+        }
+        out.writeInt(offset);
+        for (byte[] encodedDescription : encodedDescriptions) {
+            out.write(encodedDescription);
+        }
+    }
+
+    /**
+     * Decodes the description of the word with the given index.
+     *
+     * @param index the index of the word in the lexicon
+     * @return the description or null if the word has no description
+     */
+    public String get(int index) {
+        int start = offsets.get(index);
+        int length = offsets.get(index + 1) - start;
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return offsets.limit() - 1;
+    }
+}
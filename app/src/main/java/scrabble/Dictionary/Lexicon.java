@@ -0,0 +1,192 @@
+package scrabble.Dictionary;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The Lexicon class is a compact, immutable word set. It stores the words in a minimized {@link Dawg} for lookups and
+ * prefix walks and the reversed words in a second DAWG for suffix walks.
+ */
+public final class Lexicon {
+    private final Dawg words;
+    private final Dawg reversedWords;
+
+    private Lexicon(Dawg words, Dawg reversedWords) {
+        this.words = words;
+        this.reversedWords = reversedWords;
+    }
+
+    /**
+     * Creates a lexicon from the given words. Empty words and duplicates are ignored.
+     *
+     * @param words the words of the lexicon
+     * @return the lexicon containing all given words
+     */
+    public static Lexicon of(Collection<String> words) {
+        List<String> sortedWords = new ArrayList<>(words.size());
+        List<String> sortedReversedWords = new ArrayList<>(words.size());
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                sortedWords.add(word);
+                sortedReversedWords.add(new StringBuilder(word).reverse().toString());
+            }
+        }
+        return new Lexicon(Dawg.build(sortUnique(sortedWords)), Dawg.build(sortUnique(sortedReversedWords)));
+    }
+
+    /**
+     * Reads a lexicon which was written with {@link #writeTo(DataOutputStream)} from the current position of the buffer.
+     * The lexicon is a view on the buffer and does not copy its content.
+     *
+     * @param buffer the buffer to read from
+     * @return the lexicon backed by the buffer
+     */
+    public static Lexicon readFrom(ByteBuffer buffer) {
+        Dawg words = Dawg.readFrom(buffer);
+        Dawg reversedWords = Dawg.readFrom(buffer);
+        return new Lexicon(words, reversedWords);
+    }
+
+    /**
+     * Writes the lexicon in the binary format read by {@link #readFrom(ByteBuffer)}.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the lexicon could not be written
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        words.writeTo(out);
+        reversedWords.writeTo(out);
+    }
+
+    private static List<String> sortUnique(List<String> words) {
+        words.sort(null);
+        int size = 0;
+        for (String word : words) {
+            if (size == 0 || !words.get(size - 1).equals(word)) {
+                words.set(size++, word);
+            }
+        }
+        return words.subList(0, size);
+    }
+
+    /**
+     * Checks whether the lexicon contains the given word.
+     *
+     * @param word the word to check
+     * @return true if the word is contained
+     */
+    public boolean contains(CharSequence word) {
+        return words.contains(word);
+    }
+
+    /**
+     * Returns the index of the given word in the sorted word list of the lexicon.
+     *
+     * @param word the word to look up
+     * @return the index of the word or -1 if the word is not contained
+     */
+    public int indexOf(CharSequence word) {
+        return words.indexOf(word);
+    }
+
+    /**
+     * Checks whether at least one word of the lexicon starts with the given prefix.
+     *
+     * @param prefix the prefix to check
+     * @return true if a word with this prefix exists
+     */
+    public boolean hasPrefix(CharSequence prefix) {
+        return words.walk(Dawg.ROOT, prefix) != Dawg.NO_NODE;
+    }
+
+    /**
+     * Checks whether at least one word of the lexicon ends with the given suffix.
+     *
+     * @param suffix the suffix to check
+     * @return true if a word with this suffix exists
+     */
+    public boolean hasSuffix(CharSequence suffix) {
+        return reversedWords.walk(Dawg.ROOT, new StringBuilder(suffix).reverse()) != Dawg.NO_NODE;
+    }
+
+    /**
+     * Passes every word starting with the given prefix to the consumer in ascending order.
+     *
+     * @param prefix   the prefix of the words
+     * @param consumer the consumer receiving the words
+     */
+    public void forEachWithPrefix(String prefix, Consumer<String> consumer) {
+        words.forEachWithPrefix(prefix, consumer);
+    }
+
+    /**
+     * Passes every word ending with the given suffix to the consumer.
+     *
+     * @param suffix   the suffix of the words
+     * @param consumer the consumer receiving the words
+     */
+    public void forEachWithSuffix(String suffix, Consumer<String> consumer) {
+        reversedWords.forEachWithPrefix(new StringBuilder(suffix).reverse().toString(),
+                reversedWord -> consumer.accept(new StringBuilder(reversedWord).reverse().toString()));
+    }
+
+    /**
+     * Returns all words starting with the given prefix in ascending order.
+     *
+     * @param prefix the prefix of the words
+     * @return the list of matching words
+     */
+    public List<String> wordsWithPrefix(String prefix) {
+        List<String> result = new ArrayList<>();
+        forEachWithPrefix(prefix, result::add);
+        return result;
+    }
+
+    /**
+     * Returns all words ending with the given suffix.
+     *
+     * @param suffix the suffix of the words
+     * @return the list of matching words
+     */
+    public List<String> wordsWithSuffix(String suffix) {
+        List<String> result = new ArrayList<>();
+        forEachWithSuffix(suffix, result::add);
+        return result;
+    }
+
+    /**
+     * Returns the DAWG of the words, which exposes the traversal primitives needed for move generation.
+     *
+     * @return the DAWG of the words
+     */
+    public Dawg getDawg() {
+        return words;
+    }
+
+    /**
+     * Returns the DAWG of the reversed words.
+     *
+     * @return the DAWG of the reversed words
+     */
+    public Dawg getReversedDawg() {
+        return reversedWords;
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Returns the approximate number of bytes occupied by the lexicon.
+     *
+     * @return the size in bytes
+     */
+    public long sizeInBytes() {
+        return words.sizeInBytes() + reversedWords.sizeInBytes();
+    }
+}
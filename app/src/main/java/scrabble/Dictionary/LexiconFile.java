@@ -0,0 +1,210 @@
+package scrabble.Dictionary;
+
+import scrabble.Log.Logging;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The LexiconFile class is responsible for compiling a word list into a binary lexicon file and for opening such a
+ * file through a {@link MappedByteBuffer}. The lexicon and the {@link DescriptionStore} are used directly from the
+ * mapped file, so opening a compiled word list takes almost no time, the heap only holds the views on the file and
+ * the operating system can share the pages between several processes.
+ * <p>
+ * A word list is compiled on first use next to the word list, or in the temporary directory if the directory of the
+ * word list is not writable. The file is compiled again whenever the word list has changed. The {@link #main(String[])}
+ * method allows compiling the word lists as a build step.
+ */
+public final class LexiconFile {
+    private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+    private static final int MAGIC = 0x53434C58;
+    private static final int FORMAT_VERSION = 2;
+    private static final String EXTENSION = ".lex";
+    private static final WordListLoader.ProgressListener NO_PROGRESS = (parsedBytes, totalBytes) -> {
+    };
+
+    private final Lexicon lexicon;
+    private final DescriptionStore descriptions;
+
+    private LexiconFile(Lexicon lexicon, DescriptionStore descriptions) {
+        this.lexicon = lexicon;
+        this.descriptions = descriptions;
+    }
+
+    /**
+     * Compiles the word lists given as arguments into binary lexicon files.
+     *
+     * @param args the paths of the word lists to compile
+     * @throws IOException if a word list could not be compiled
+     */
+    public static void main(String[] args) throws IOException {
+        for (String path : args) {
+            File wordListFile = new File(path);
+            compile(wordListFile, compiledFileFor(wordListFile), NO_PROGRESS);
+        }
+    }
+
+    /**
+     * Loads the lexicon of the given word list. The word list is compiled first if there is no up-to-date compiled
+     * lexicon file. If only the compiled file exists, it is used as is.
+     *
+     * @param wordListFile the word list to load
+     * @return the loaded lexicon file
+     * @throws IOException if the word list could not be compiled or the lexicon file could not be read
+     */
+    public static LexiconFile load(File wordListFile) throws IOException {
+        return load(wordListFile, NO_PROGRESS);
+    }
+
+    /**
+     * Loads the lexicon of the given word list and reports the progress of compiling it to the given listener.
+     * If the compiled file is up to date, the listener is informed once that the whole file has been processed.
+     *
+     * @param wordListFile the word list to load
+     * @param listener     the listener receiving progress events
+     * @return the loaded lexicon file
+     * @throws IOException if the word list could not be compiled or the lexicon file could not be read
+     */
+    public static LexiconFile load(File wordListFile, WordListLoader.ProgressListener listener) throws IOException {
+        File compiledFile = compiledFileFor(wordListFile);
+        if (!isUpToDate(compiledFile, wordListFile)) {
+            compile(wordListFile, compiledFile, listener);
+        } else {
+            listener.onProgress(wordListFile.length(), wordListFile.length());
+        }
+        return open(compiledFile);
+    }
+
+    /**
+     * Returns the location of the compiled lexicon file for the given word list.
+     *
+     * @param wordListFile the word list
+     * @return the compiled lexicon file, which does not need to exist yet
+     */
+    public static File compiledFileFor(File wordListFile) {
+        String name = wordListFile.getName();
+        int extension = name.lastIndexOf('.');
+        String compiledName = (extension > 0 ? name.substring(0, extension) : name) + EXTENSION;
+        File directory = wordListFile.getAbsoluteFile().getParentFile();
+        File compiledFile = new File(directory, compiledName);
+        if (compiledFile.exists() || (directory != null && directory.canWrite())) {
+            return compiledFile;
+        }
+        return new File(new File(System.getProperty("java.io.tmpdir"), "scrabble"), compiledName);
+    }
+
+    /**
+     * Compiles the given word list into a binary lexicon file. The file is written to a temporary file first and
+     * then moved to its target, so concurrent readers never see a partially written file.
+     *
+     * @param wordListFile the word list to compile
+     * @param compiledFile the lexicon file to write
+     * @param listener     the listener receiving progress events while the word list is parsed
+     * @throws IOException if the word list could not be read or the lexicon file could not be written
+     */
+    public static void compile(File wordListFile, File compiledFile, WordListLoader.ProgressListener listener)
+            throws IOException {
+        long start = System.nanoTime();
+        WordListLoader.WordList wordList = WordListLoader.load(wordListFile, listener);
+        Lexicon lexicon = Lexicon.of(wordList.words());
+        String[] descriptions = wordList.descriptions();
+
+        File directory = compiledFile.getAbsoluteFile().getParentFile();
+        Files.createDirectories(directory.toPath());
+        File temporaryFile = File.createTempFile(compiledFile.getName(), ".tmp", directory);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(wordListFile.length());
+                out.writeLong(wordListFile.lastModified());
+                lexicon.writeTo(out);
+                DescriptionStore.write(descriptions, out);
+            }
+            try {
+                Files.move(temporaryFile.toPath(), compiledFile.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile.toPath(), compiledFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile.toPath());
+        }
+        logger.log(Level.INFO, "Compiled {0} words of \"{1}\" in {2} ms.",
+                new Object[]{lexicon.size(), wordListFile.getName(), (System.nanoTime() - start) / 1_000_000});
+    }
+
+    /**
+     * Opens a compiled lexicon file through a memory mapping.
+     *
+     * @param compiledFile the lexicon file to open
+     * @return the opened lexicon file
+     * @throws IOException if the file could not be mapped or is not a valid lexicon file
+     */
+    public static LexiconFile open(File compiledFile) throws IOException {
+        ByteBuffer buffer = map(compiledFile);
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("\"" + compiledFile + "\" is not a lexicon file of version " + FORMAT_VERSION);
+        }
+        buffer.getLong();
+        buffer.getLong();
+        try {
+            Lexicon lexicon = Lexicon.readFrom(buffer);
+            DescriptionStore descriptions = DescriptionStore.readFrom(buffer);
+            return new LexiconFile(lexicon, descriptions);
+        } catch (RuntimeException e) {
+            throw new IOException("\"" + compiledFile + "\" is corrupt", e);
+        }
+    }
+
+    private static MappedByteBuffer map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static boolean isUpToDate(File compiledFile, File wordListFile) {
+        if (!compiledFile.isFile()) {
+            return false;
+        }
+        try {
+            ByteBuffer buffer = map(compiledFile);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return false;
+            }
+            long sourceLength = buffer.getLong();
+            long sourceLastModified = buffer.getLong();
+            return !wordListFile.exists()
+                    || (sourceLength == wordListFile.length() && sourceLastModified == wordListFile.lastModified());
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "The lexicon file \"" + compiledFile + "\" could not be checked.", e);
+            return false;
+        }
+    }
+
+    public Lexicon getLexicon() {
+        return lexicon;
+    }
+
+    /**
+     * Returns the description of the word with the given index in the lexicon.
+     *
+     * @param index the index of the word
+     * @return the description or null if the word has no description
+     */
+    public String getDescription(int index) {
+        return descriptions.get(index);
+    }
+}
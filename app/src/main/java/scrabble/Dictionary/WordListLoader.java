@@ -0,0 +1,199 @@
+package scrabble.Dictionary;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The WordListLoader class reads a word list with one word per line and an optional description separated by a
+ * semicolon. The file is read through NIO and split into chunks at line boundaries, the chunks are parsed in parallel
+ * on a {@link ForkJoinPool} and merged into a sorted list of unique words. If a word occurs several times, the first
+ * occurrence in the file wins.
+ */
+public final class WordListLoader {
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final Comparator<Entry> BY_WORD = Comparator.comparing(Entry::word);
+
+    /**
+     * Receives progress events while a word list is loaded. The events are sent from the worker threads of the pool.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called whenever a chunk of the word list has been parsed.
+         *
+         * @param parsedBytes the number of bytes parsed so far
+         * @param totalBytes  the size of the word list in bytes
+         */
+        void onProgress(long parsedBytes, long totalBytes);
+    }
+
+    /**
+     * A loaded word list.
+     *
+     * @param words        the lower case words in ascending order without duplicates
+     * @param descriptions the descriptions of the words with the same index, null if a word has no description
+     */
+    public record WordList(List<String> words, String[] descriptions) {
+    }
+
+    private record Entry(String word, String description) {
+    }
+
+    private WordListLoader() {
+    }
+
+    /**
+     * Loads the given word list on the common fork-join pool.
+     *
+     * @param wordListFile the word list to load
+     * @param listener     the listener receiving progress events
+     * @return the loaded word list
+     * @throws IOException if the word list could not be read
+     */
+    public static WordList load(File wordListFile, ProgressListener listener) throws IOException {
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(wordListFile.toPath(), StandardOpenOption.READ)) {
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        List<Integer> boundaries = findChunkBoundaries(content);
+        ParseTask task = new ParseTask(content, boundaries, 0, boundaries.size() - 1, new AtomicLong(),
+                content.limit(), listener);
+        Entry[] entries = ForkJoinPool.commonPool().invoke(task).toArray(new Entry[0]);
+        Arrays.parallelSort(entries, BY_WORD);
+
+        List<String> words = new ArrayList<>(entries.length);
+        List<String> descriptions = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            if (!entry.word().isEmpty() && (words.isEmpty() || !words.get(words.size() - 1).equals(entry.word()))) {
+                words.add(entry.word());
+                descriptions.add(entry.description());
+            }
+        }
+        return new WordList(words, descriptions.toArray(new String[0]));
+    }
+
+    private static List<Integer> findChunkBoundaries(ByteBuffer content) {
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+        int position = 0;
+        while (position < content.limit()) {
+            position = Math.min(position + CHUNK_SIZE, content.limit());
+            while (position < content.limit() && content.get(position - 1) != '\n') {
+                position++;
+            }
+            boundaries.add(position);
+        }
+        return boundaries;
+    }
+
+    /**
+     * Parses the chunks between two boundaries. Ranges of more than one chunk are split in half, the results are
+     * concatenated in file order so the first occurrence of a word stays first.
+     */
+    private static final class ParseTask extends RecursiveTask<List<Entry>> {
+        private static final long serialVersionUID = 1L;
+        private final ByteBuffer content;
+        private final List<Integer> boundaries;
+        private final int firstChunk;
+        private final int lastChunk;
+        private final AtomicLong parsedBytes;
+        private final long totalBytes;
+        private final ProgressListener listener;
+
+        private ParseTask(ByteBuffer content, List<Integer> boundaries, int firstChunk, int lastChunk,
+                          AtomicLong parsedBytes, long totalBytes, ProgressListener listener) {
+            this.content = content;
+            this.boundaries = boundaries;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.parsedBytes = parsedBytes;
+            this.totalBytes = totalBytes;
+            this.listener = listener;
+        }
+
+        @Override
+        protected List<Entry> compute() {
+            if (lastChunk - firstChunk <= 1) {
+                return parseChunk();
+            }
+            int middle = (firstChunk + lastChunk) >>> 1;
+            ParseTask left = new ParseTask(content, boundaries, firstChunk, middle, parsedBytes, totalBytes, listener);
+            ParseTask right = new ParseTask(content, boundaries, middle, lastChunk, parsedBytes, totalBytes, listener);
+            right.fork();
+            List<Entry> entries = left.compute();
+            entries.addAll(right.join());
+            return entries;
+        }
+
+        private List<Entry> parseChunk() {
+            int start = boundaries.get(firstChunk);
+            int end = lastChunk > firstChunk ? boundaries.get(lastChunk) : start;
+            byte[] bytes = new byte[end - start];
+            content.get(start, bytes);
+            List<Entry> entries = new ArrayList<>();
+            int lineStart = 0;
+            for (int i = 0; i <= bytes.length; i++) {
+                if (i == bytes.length || bytes[i] == '\n') {
+                    if (i > lineStart || i < bytes.length) {
+                        parseLine(bytes, lineStart, i, entries);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+            listener.onProgress(parsedBytes.addAndGet(bytes.length), totalBytes);
+            return entries;
+        }
+
+        /**
+         * Parses a single line. Like {@link String#split(String)}, trailing separators are ignored and a description
+         * is only taken if the line consists of exactly two fields.
+         */
+        private void parseLine(byte[] bytes, int start, int end, List<Entry> entries) {
+            if (end > start && bytes[end - 1] == '\r') {
+                end--;
+            }
+            while (end > start && bytes[end - 1] == ';') {
+                end--;
+            }
+            int firstSeparator = -1;
+            int separators = 0;
+            for (int i = start; i < end; i++) {
+                if (bytes[i] == ';') {
+                    separators++;
+                    if (firstSeparator < 0) {
+                        firstSeparator = i;
+                    }
+                }
+            }
+            int wordEnd = firstSeparator < 0 ? end : firstSeparator;
+            String word = new String(bytes, start, wordEnd - start, StandardCharsets.UTF_8).toLowerCase();
+            String description = null;
+            if (separators == 1) {
+                description = removeQuotes(bytes, firstSeparator + 1, end);
+            }
+            entries.add(new Entry(word, description));
+        }
+
+        private String removeQuotes(byte[] bytes, int start, int end) {
+            byte[] description = new byte[end - start];
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                if (bytes[i] != '"') {
+                    description[length++] = bytes[i];
+                }
+            }
+            return length == 0 ? null : new String(description, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package scrabble.Engine;
+
+import scrabble.Dictionary.Dawg;
+import scrabble.Model.Board;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
+import scrabble.WordValidator;
+import scrabble.config.Config;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The CrossChecks class is a companion of a {@link Board} which knows for every empty square which letters can be
+ * placed on it without forming an invalid perpendicular word, together with the points of that perpendicular word.
+ * It also keeps the set of anchor squares, the empty squares next to a tile, at which every new word has to touch the
+ * existing tiles. The letters of the alphabet of the language are numbered, so the allowed letters of a square are a
+ * bitmask.
+ * <p>
+ * After a move only the rows and columns it touched are computed again, since all other squares keep their
+ * perpendicular words and neighbours.
+ */
+public class CrossChecks {
+    /**
+     * The cross sum of a square which has no perpendicular word.
+     */
+    public static final int NO_CROSS_WORD = -1;
+    private static final int ROWS = Config.BOARD_ROW_SIZE;
+    private static final int COLS = Config.BOARD_COL_SIZE;
+
+    private final Dawg dawg;
+    private final char[] alphabet;
+    private final int[] letterIndexes;
+    private final boolean[] jokerLetters;
+    private final int allLetters;
+    private final int[] acrossChecks = new int[Board.SIZE];
+    private final int[] downChecks = new int[Board.SIZE];
+    private final int[] acrossCrossSums = new int[Board.SIZE];
+    private final int[] downCrossSums = new int[Board.SIZE];
+    private final long[] anchors = new long[(Board.SIZE + 63) / 64];
+    private final char[] pattern = new char[Math.max(ROWS, COLS)];
+    private final char[] resolved = new char[Math.max(ROWS, COLS)];
+    private final CharBuffer patternView = CharBuffer.wrap(pattern);
+
+    /**
+     * Creates the cross-checks of the given board for the language of the given word validator.
+     *
+     * @param wordValidator the word validator of the language of the game
+     * @param board         the board to compute the cross-checks for
+     * @throws IllegalArgumentException if the alphabet of the language has more than 32 letters
+     */
+    public CrossChecks(WordValidator wordValidator, Board board) {
+        dawg = wordValidator.getLexicon().getDawg();
+        alphabet = wordValidator.getAlphabet();
+        if (alphabet.length > Integer.SIZE) {
+            throw new IllegalArgumentException("The alphabet has more than " + Integer.SIZE + " letters");
+        }
+        int maxLetter = 0;
+        for (char letter : alphabet) {
+            maxLetter = Math.max(maxLetter, letter);
+        }
+        letterIndexes = new int[maxLetter + 1];
+        jokerLetters = new boolean[maxLetter + 1];
+        Arrays.fill(letterIndexes, -1);
+        for (int i = 0; i < alphabet.length; i++) {
+            letterIndexes[alphabet[i]] = i;
+            jokerLetters[alphabet[i]] = true;
+        }
+        allLetters = alphabet.length == Integer.SIZE ? -1 : (1 << alphabet.length) - 1;
+        recompute(board);
+    }
+
+    /**
+     * Computes the cross-checks and anchors of all squares of the board.
+     *
+     * @param board the board
+     */
+    public void recompute(Board board) {
+        for (int row = 0; row < ROWS; row++) {
+            updateRow(board, row);
+        }
+        for (int col = 0; col < COLS; col++) {
+            updateColumn(board, col);
+        }
+        updateCenterAnchor(board);
+    }
+
+    /**
+     * Updates the cross-checks and anchors after the given move has been applied to the board. Only the rows and
+     * columns of the placed tiles are computed again.
+     *
+     * @param board the board the move was applied to
+     * @param move  the applied move
+     */
+    public void update(Board board, Move move) {
+        int updatedRows = 0;
+        int updatedColumns = 0;
+        List<PlacedTile> placedTiles = move.getPlacedTiles();
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            if ((updatedRows & (1 << placedTile.row())) == 0) {
+                updatedRows |= 1 << placedTile.row();
+                updateRow(board, placedTile.row());
+            }
+            if ((updatedColumns & (1 << placedTile.col())) == 0) {
+                updatedColumns |= 1 << placedTile.col();
+                updateColumn(board, placedTile.col());
+            }
+        }
+        updateCenterAnchor(board);
+    }
+
+    /**
+     * A tile placed in a row forms a perpendicular word in its column, so the down-checks, which restrict moves
+     * along columns, depend on the row.
+     */
+    private void updateRow(Board board, int row) {
+        for (int col = 0; col < COLS; col++) {
+            int index = Board.index(row, col);
+            updateAnchor(board, index, row, col);
+            if (board.isOccupied(index)) {
+                downChecks[index] = 0;
+                downCrossSums[index] = NO_CROSS_WORD;
+            } else {
+                computeCheck(board, row, col, 0, 1, downChecks, downCrossSums);
+            }
+        }
+    }
+
+    private void updateColumn(Board board, int col) {
+        for (int row = 0; row < ROWS; row++) {
+            int index = Board.index(row, col);
+            updateAnchor(board, index, row, col);
+            if (board.isOccupied(index)) {
+                acrossChecks[index] = 0;
+                acrossCrossSums[index] = NO_CROSS_WORD;
+            } else {
+                computeCheck(board, row, col, 1, 0, acrossChecks, acrossCrossSums);
+            }
+        }
+    }
+
+    private void updateAnchor(Board board, int index, int row, int col) {
+        boolean anchor = !board.isOccupied(index)
+                && ((row > 0 && board.isOccupied(row - 1, col)) || (row < ROWS - 1 && board.isOccupied(row + 1, col))
+                || (col > 0 && board.isOccupied(row, col - 1)) || (col < COLS - 1 && board.isOccupied(row, col + 1)));
+        if (anchor) {
+            anchors[index >>> 6] |= 1L << index;
+        } else {
+            anchors[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    private void updateCenterAnchor(Board board) {
+        int center = Board.index(ROWS / 2, COLS / 2);
+        updateAnchor(board, center, ROWS / 2, COLS / 2);
+        if (board.getTileCount() == 0) {
+            anchors[center >>> 6] |= 1L << center;
+        }
+    }
+
+    /**
+     * Computes the letters allowed on an empty square given the perpendicular word through it, which runs along the
+     * given step.
+     */
+    private void computeCheck(Board board, int row, int col, int rowStep, int colStep, int[] checks, int[] crossSums) {
+        int startRow = row;
+        int startCol = col;
+        while (startRow - rowStep >= 0 && startCol - colStep >= 0 && board.isOccupied(startRow - rowStep, startCol - colStep)) {
+            startRow -= rowStep;
+            startCol -= colStep;
+        }
+        int length = 0;
+        int gap = -1;
+        int crossSum = 0;
+        boolean hasJoker = false;
+        for (int r = startRow, c = startCol; r < ROWS && c < COLS; r += rowStep, c += colStep) {
+            if (r == row && c == col) {
+                gap = length++;
+                continue;
+            }
+            int index = Board.index(r, c);
+            if (!board.isOccupied(index)) {
+                break;
+            }
+            char letter = Character.toLowerCase(board.getLetter(index));
+            hasJoker |= letter == WordValidator.JOKER;
+            pattern[length++] = letter;
+            crossSum += board.getValue(index);
+        }
+        int index = Board.index(row, col);
+        if (length == 1) {
+            checks[index] = allLetters;
+            crossSums[index] = NO_CROSS_WORD;
+            return;
+        }
+        checks[index] = hasJoker ? matchLetters(length, gap) : walkLetters(length, gap);
+        crossSums[index] = crossSum;
+    }
+
+    private int walkLetters(int length, int gap) {
+        int node = Dawg.ROOT;
+        for (int i = 0; i < gap && node != Dawg.NO_NODE; i++) {
+            node = dawg.child(node, pattern[i]);
+        }
+        if (node == Dawg.NO_NODE) {
+            return 0;
+        }
+        int letters = 0;
+        for (int edge = dawg.edgeBegin(node); edge < dawg.edgeEnd(node); edge++) {
+            int letterIndex = letterIndex(dawg.edgeLetter(edge));
+            if (letterIndex < 0) {
+                continue;
+            }
+            int target = dawg.edgeTarget(edge);
+            for (int i = gap + 1; i < length && target != Dawg.NO_NODE; i++) {
+                target = dawg.child(target, pattern[i]);
+            }
+            if (target != Dawg.NO_NODE && dawg.isTerminal(target)) {
+                letters |= 1 << letterIndex;
+            }
+        }
+        return letters;
+    }
+
+    private int matchLetters(int length, int gap) {
+        int letters = 0;
+        CharBuffer word = patternView.limit(length);
+        for (int letterIndex = 0; letterIndex < alphabet.length; letterIndex++) {
+            pattern[gap] = alphabet[letterIndex];
+            if (dawg.matches(word, WordValidator.JOKER, jokerLetters, resolved)) {
+                letters |= 1 << letterIndex;
+            }
+        }
+        return letters;
+    }
+
+    /**
+     * Returns the letters which can be placed on the given square by a move in the given direction as a bitmask of
+     * letter indexes. Occupied squares allow no letters.
+     *
+     * @param index     the index of the square
+     * @param direction the direction of the move
+     * @return the bitmask of the allowed letters
+     */
+    public int getCrossCheck(int index, Config.Direction direction) {
+        return direction == Config.Direction.RIGHT ? acrossChecks[index] : downChecks[index];
+    }
+
+    /**
+     * Checks whether the given letter can be placed on the given square by a move in the given direction.
+     *
+     * @param index     the index of the square
+     * @param direction the direction of the move
+     * @param letter    the letter, upper or lower case
+     * @return true if the letter is allowed
+     */
+    public boolean isAllowed(int index, Config.Direction direction, char letter) {
+        int letterIndex = letterIndex(Character.toLowerCase(letter));
+        return letterIndex >= 0 && (getCrossCheck(index, direction) & (1 << letterIndex)) != 0;
+    }
+
+    /**
+     * Returns the points of the tiles of the perpendicular word a move in the given direction forms through the given
+     * square, without the letter placed on the square and without premiums.
+     *
+     * @param index     the index of the square
+     * @param direction the direction of the move
+     * @return the cross sum or {@link #NO_CROSS_WORD} if no perpendicular word is formed
+     */
+    public int getCrossSum(int index, Config.Direction direction) {
+        return direction == Config.Direction.RIGHT ? acrossCrossSums[index] : downCrossSums[index];
+    }
+
+    public boolean isAnchor(int index) {
+        return (anchors[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the index of the next anchor square starting at the given index.
+     *
+     * @param fromIndex the index to start searching at
+     * @return the index of the next anchor or -1 if there is none
+     */
+    public int nextAnchor(int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (word >= anchors.length) {
+            return -1;
+        }
+        long bits = anchors[word] & (-1L << fromIndex);
+        while (bits == 0) {
+            if (++word == anchors.length) {
+                return -1;
+            }
+            bits = anchors[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Returns the index of the given lower case letter in the alphabet.
+     *
+     * @param letter the letter
+     * @return the index of the letter or -1 if the letter is not in the alphabet
+     */
+    public int letterIndex(char letter) {
+        return letter < letterIndexes.length ? letterIndexes[letter] : -1;
+    }
+
+    /**
+     * Returns the lower case letter with the given index in the alphabet.
+     *
+     * @param letterIndex the index of the letter
+     * @return the letter
+     */
+    public char letterAt(int letterIndex) {
+        return alphabet[letterIndex];
+    }
+
+    public int getAlphabetSize() {
+        return alphabet.length;
+    }
+}
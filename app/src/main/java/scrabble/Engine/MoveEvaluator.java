@@ -0,0 +1,217 @@
+package scrabble.Engine;
+
+import scrabble.Dictionary.Dawg;
+import scrabble.Metrics.Counter;
+import scrabble.Metrics.Histogram;
+import scrabble.Metrics.Metrics;
+import scrabble.Model.Board;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
+import scrabble.WordValidator;
+import scrabble.config.Config;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The MoveEvaluator class finds every word a move forms on a board and scores it. Besides the main word along the
+ * direction of the move, every placed tile can form a cross-word perpendicular to it. Premium squares only count under
+ * newly placed tiles, and a bingo bonus is added if the player places all the tiles of a full hand.
+ * <p>
+ * {@link #score(Board, Move)} scores a move without allocating anything by scanning the words into a buffer of the
+ * evaluator, so a move evaluator must not be used by several threads at the same time.
+ */
+public class MoveEvaluator {
+    /**
+     * The score of a move which forms a word that is not in the dictionary
+     */
+    public static final int INVALID = -1;
+    private static final Counter LOOKUPS = Metrics.counter("dictionary.lookups");
+    private static final Counter MISSES = Metrics.counter("dictionary.misses");
+    private static final Histogram LOOKUP_NANOS = Metrics.histogram("dictionary.lookup.nanos");
+    private static final int MAX_WORD_LENGTH = Math.max(Config.BOARD_ROW_SIZE, Config.BOARD_COL_SIZE);
+
+    private final Scoring scoring;
+    private final Dawg dawg;
+    private final boolean[] jokerLetters;
+    private final char[] letters = new char[MAX_WORD_LENGTH];
+    private final char[] word = new char[MAX_WORD_LENGTH];
+    private final char[] resolved = new char[MAX_WORD_LENGTH];
+    private final CharBuffer wordView = CharBuffer.wrap(word);
+    private int wordRow;
+    private int wordCol;
+    private int wordLength;
+
+    /**
+     * A word formed by a move.
+     *
+     * @param word      the letters of the word, jokers are spaces
+     * @param row       the row of the first letter
+     * @param col       the column of the first letter
+     * @param direction the direction in which the word is read
+     * @param points    the points the word scores
+     */
+    public record FormedWord(String word, int row, int col, Config.Direction direction, int points) {
+    }
+
+    /**
+     * Creates a move evaluator which validates the formed words with the given word validator. The placed tiles are
+     * scored with the letter values of the given scoring tables, not with the values the tiles carry.
+     *
+     * @param wordValidator the word validator of the language of the game
+     * @param scoring       the scoring tables of the language of the game
+     */
+    public MoveEvaluator(WordValidator wordValidator, Scoring scoring) {
+        this.scoring = scoring;
+        this.dawg = wordValidator.getLexicon().getDawg();
+        char[] alphabet = wordValidator.getAlphabet();
+        int maxLetter = 0;
+        for (char letter : alphabet) {
+            maxLetter = Math.max(maxLetter, letter);
+        }
+        jokerLetters = new boolean[maxLetter + 1];
+        for (char letter : alphabet) {
+            jokerLetters[letter] = true;
+        }
+    }
+
+    /**
+     * Scores the given move on the given board. Every formed word is checked against the dictionary as soon as it is
+     * found, and nothing is allocated. The move has to be valid on the board according to {@link Move#isValidOn(Board)},
+     * the board is not changed.
+     *
+     * @param board the board before the move
+     * @param move  the move to score
+     * @return the total score of the move including the bingo bonus or {@link #INVALID} if a formed word is not in the
+     * dictionary
+     */
+    public int score(Board board, Move move) {
+        List<PlacedTile> placedTiles = move.getPlacedTiles();
+        Config.Direction direction = move.getDirection(board);
+        Config.Direction crossDirection = direction == Config.Direction.RIGHT ? Config.Direction.DOWN : Config.Direction.RIGHT;
+        PlacedTile firstTile = placedTiles.get(0);
+        int score = scanWord(board, move, firstTile.row(), firstTile.col(), direction);
+        boolean formedWord = wordLength > 1;
+        if (formedWord && !isWordInDictionary()) {
+            return INVALID;
+        }
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            int points = scanWord(board, move, placedTile.row(), placedTile.col(), crossDirection);
+            if (wordLength > 1) {
+                if (!isWordInDictionary()) {
+                    return INVALID;
+                }
+                formedWord = true;
+                score += points;
+            }
+        }
+        if (!formedWord) {
+            return INVALID;
+        }
+        if (placedTiles.size() == Config.INITIAL_TILE_COUNT) {
+            score += Config.BINGO_BONUS;
+        }
+        return score;
+    }
+
+    /**
+     * Finds every word of at least two letters the move forms on the board. The main word is returned first, followed
+     * by the cross-words of the placed tiles in board order.
+     *
+     * @param board the board before the move
+     * @param move  the move
+     * @return the formed words with their points
+     */
+    public List<FormedWord> findWords(Board board, Move move) {
+        List<FormedWord> words = new ArrayList<>();
+        Config.Direction direction = move.getDirection(board);
+        Config.Direction crossDirection = direction == Config.Direction.RIGHT ? Config.Direction.DOWN : Config.Direction.RIGHT;
+        PlacedTile firstTile = move.getPlacedTiles().get(0);
+        addWord(board, move, firstTile.row(), firstTile.col(), direction, words);
+        for (PlacedTile placedTile : move.getPlacedTiles()) {
+            addWord(board, move, placedTile.row(), placedTile.col(), crossDirection, words);
+        }
+        return words;
+    }
+
+    private void addWord(Board board, Move move, int row, int col, Config.Direction direction, List<FormedWord> words) {
+        int points = scanWord(board, move, row, col, direction);
+        if (wordLength > 1) {
+            words.add(new FormedWord(new String(letters, 0, wordLength), wordRow, wordCol, direction, points));
+        }
+    }
+
+    /**
+     * Scans the word through the given square into the letter buffer and sets its first square and length.
+     *
+     * @return the points of the word
+     */
+    private int scanWord(Board board, Move move, int row, int col, Config.Direction direction) {
+        int rowStep = direction == Config.Direction.DOWN ? 1 : 0;
+        int colStep = direction == Config.Direction.RIGHT ? 1 : 0;
+        while (row - rowStep >= 0 && col - colStep >= 0 && isCovered(board, move, row - rowStep, col - colStep)) {
+            row -= rowStep;
+            col -= colStep;
+        }
+        wordRow = row;
+        wordCol = col;
+        wordLength = 0;
+        int letterPoints = 0;
+        int wordMultiplier = 1;
+        for (int r = row, c = col; r < Config.BOARD_ROW_SIZE && c < Config.BOARD_COL_SIZE; r += rowStep, c += colStep) {
+            int index = Board.index(r, c);
+            if (board.isOccupied(index)) {
+                letters[wordLength++] = board.getLetter(index);
+                letterPoints += board.getValue(index);
+                continue;
+            }
+            PlacedTile placedTile = findPlacedTile(move, r, c);
+            if (placedTile == null) {
+                break;
+            }
+            char letter = placedTile.tile().letter();
+            letters[wordLength++] = letter;
+            letterPoints += scoring.letterValue(letter) * Scoring.letterMultiplier(index);
+            wordMultiplier *= Scoring.wordMultiplier(index);
+        }
+        return letterPoints * wordMultiplier;
+    }
+
+    private boolean isWordInDictionary() {
+        boolean hasJoker = false;
+        for (int i = 0; i < wordLength; i++) {
+            word[i] = Character.toLowerCase(letters[i]);
+            hasJoker |= word[i] == WordValidator.JOKER;
+        }
+        wordView.limit(wordLength);
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+        boolean contained = hasJoker
+                ? dawg.matches(wordView, WordValidator.JOKER, jokerLetters, resolved)
+                : dawg.contains(wordView);
+        if (Metrics.ENABLED) {
+            LOOKUP_NANOS.record(System.nanoTime() - start);
+            LOOKUPS.increment();
+            if (!contained) {
+                MISSES.increment();
+            }
+        }
+        return contained;
+    }
+
+    private boolean isCovered(Board board, Move move, int row, int col) {
+        return board.isOccupied(row, col) || findPlacedTile(move, row, col) != null;
+    }
+
+    private PlacedTile findPlacedTile(Move move, int row, int col) {
+        List<PlacedTile> placedTiles = move.getPlacedTiles();
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            if (placedTile.row() == row && placedTile.col() == col) {
+                return placedTile;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,342 @@
+package scrabble.Engine;
+
+import scrabble.Dictionary.Dawg;
+import scrabble.Model.Board;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
+import scrabble.Model.Tile;
+import scrabble.WordValidator;
+import scrabble.config.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The MoveGenerator class lists every legal move a rack allows on a board together with its score. It follows the
+ * algorithm of Appel and Jacobson: every move has to cover an anchor square, so for each anchor the generator places
+ * the tiles of the rack from every possible start square left of the anchor while walking the {@link Dawg} of the
+ * lexicon. Letters on empty squares are restricted by the {@link CrossChecks} of the board, so every generated move
+ * is legal and its cross-words are scored from the cross sums without looking at the board again.
+ * <p>
+ * A joker does not record the letter it stands for, so the generator walks the DAWG with the set of nodes reachable
+ * through any letter allowed on the square instead of trying the letters one by one. This way a move with jokers is
+ * explored and generated only once.
+ * <p>
+ * A move generator keeps the state of the current search in its fields and must not be used by several threads at
+ * the same time.
+ */
+public class MoveGenerator {
+    private static final int LINE_LENGTH = Config.BOARD_ROW_SIZE;
+
+    private final Dawg dawg;
+    private final Scoring scoring;
+    private final int[] rackCounts = new int[Integer.SIZE];
+    private final Tile[] rackTiles = new Tile[Integer.SIZE];
+    private final int[] rackValues = new int[Integer.SIZE];
+    private final int[] placedPositions = new int[LINE_LENGTH];
+    private final Tile[] placedTiles = new Tile[LINE_LENGTH];
+    private final int[][] nodeSets = new int[LINE_LENGTH + 1][Integer.SIZE];
+    private Board board;
+    private CrossChecks crossChecks;
+    private Config.Direction direction;
+    private int line;
+    private int anchor;
+    private int start;
+    private int rackLetters;
+    private int remainingTiles;
+    private int blanks;
+    private Tile blankTile;
+    private int placedCount;
+    private Consumer<ScoredMove> consumer;
+
+    /**
+     * Creates a move generator for the lexicon of the given word validator.
+     *
+     * @param wordValidator the word validator of the language of the game
+     * @param scoring       the scoring tables of the language of the game
+     */
+    public MoveGenerator(WordValidator wordValidator, Scoring scoring) {
+        this.dawg = wordValidator.getLexicon().getDawg();
+        this.scoring = scoring;
+    }
+
+    /**
+     * Lists every legal move of the given rack on the given board.
+     *
+     * @param board       the board
+     * @param crossChecks the cross-checks of the board
+     * @param rack        the tiles of the player
+     * @return the legal moves with their scores
+     */
+    public List<ScoredMove> generate(Board board, CrossChecks crossChecks, List<Tile> rack) {
+        List<ScoredMove> moves = new ArrayList<>();
+        for (Config.Direction lineDirection : Config.Direction.values()) {
+            for (int lineIndex = 0; lineIndex < LINE_LENGTH; lineIndex++) {
+                generateLine(board, crossChecks, rack, lineDirection, lineIndex, moves::add);
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Returns the legal move of the given rack with the highest score. If several moves have the highest score, the
+     * one generated first is returned.
+     *
+     * @param board       the board
+     * @param crossChecks the cross-checks of the board
+     * @param rack        the tiles of the player
+     * @return the best move or null if there is no legal move
+     */
+    public ScoredMove findBestMove(Board board, CrossChecks crossChecks, List<Tile> rack) {
+        ScoredMove[] bestMove = new ScoredMove[1];
+        for (Config.Direction lineDirection : Config.Direction.values()) {
+            for (int lineIndex = 0; lineIndex < LINE_LENGTH; lineIndex++) {
+                generateLine(board, crossChecks, rack, lineDirection, lineIndex, move -> {
+                    if (bestMove[0] == null || move.score() > bestMove[0].score()) {
+                        bestMove[0] = move;
+                    }
+                });
+            }
+        }
+        return bestMove[0];
+    }
+
+    /**
+     * Passes every legal move of the given rack which lies in a single row or column to the consumer. A move of a
+     * single tile is generated in the direction {@link Move#getDirection(Board)} returns for it, so every move is
+     * generated exactly once over all lines.
+     *
+     * @param board       the board
+     * @param crossChecks the cross-checks of the board
+     * @param rack        the tiles of the player
+     * @param direction   RIGHT for a row, DOWN for a column
+     * @param line        the index of the row or column
+     * @param consumer    the consumer receiving the moves
+     */
+    public void generateLine(Board board, CrossChecks crossChecks, List<Tile> rack, Config.Direction direction, int line,
+                             Consumer<ScoredMove> consumer) {
+        this.board = board;
+        this.crossChecks = crossChecks;
+        this.direction = direction;
+        this.line = line;
+        this.consumer = consumer;
+        setRack(rack);
+        if (remainingTiles > 0) {
+            for (int position = 0; position < LINE_LENGTH; position++) {
+                if (crossChecks.isAnchor(squareAt(position))) {
+                    generateAnchor(position);
+                }
+            }
+        }
+        this.board = null;
+        this.crossChecks = null;
+        this.consumer = null;
+    }
+
+    private void generateAnchor(int position) {
+        anchor = position;
+        if (position > 0 && board.isOccupied(squareAt(position - 1))) {
+            start = position - 1;
+            while (start > 0 && board.isOccupied(squareAt(start - 1))) {
+                start--;
+            }
+            nodeSets[start][0] = Dawg.ROOT;
+            extend(start, 1, 0, 1, 0);
+            return;
+        }
+        int limit = 0;
+        while (limit < remainingTiles - 1 && position - limit - 1 >= 0
+                && !board.isOccupied(squareAt(position - limit - 1))
+                && !crossChecks.isAnchor(squareAt(position - limit - 1))) {
+            limit++;
+        }
+        for (start = position - limit; start <= position; start++) {
+            nodeSets[start][0] = Dawg.ROOT;
+            extend(start, 1, 0, 1, 0);
+        }
+    }
+
+    private void setRack(List<Tile> rack) {
+        Arrays.fill(rackCounts, 0);
+        rackLetters = 0;
+        remainingTiles = 0;
+        blanks = 0;
+        blankTile = null;
+        placedCount = 0;
+        for (Tile tile : rack) {
+            if (tile.letter() == WordValidator.JOKER) {
+                blanks++;
+                blankTile = tile;
+                remainingTiles++;
+                continue;
+            }
+            int letterIndex = crossChecks.letterIndex(Character.toLowerCase(tile.letter()));
+            if (letterIndex >= 0) {
+                rackCounts[letterIndex]++;
+                rackTiles[letterIndex] = tile;
+                rackValues[letterIndex] = scoring.letterValue(tile.letter());
+                rackLetters |= 1 << letterIndex;
+                remainingTiles++;
+            }
+        }
+    }
+
+    private int squareAt(int position) {
+        return direction == Config.Direction.RIGHT ? Board.index(line, position) : Board.index(position, line);
+    }
+
+    /**
+     * Extends the word at the given position of the line. The DAWG nodes reached by the letters before the position
+     * are in the node set of the position. The main word is scored inline: the letter points and the word multiplier
+     * of the main word and the total of the finished cross-words are passed down the recursion.
+     */
+    private void extend(int position, int nodeCount, int letterPoints, int wordMultiplier, int crossPoints) {
+        if (position == LINE_LENGTH || !board.isOccupied(squareAt(position))) {
+            if (position > anchor && placedCount > 0 && position - start > 1 && isTerminal(position, nodeCount)) {
+                record(letterPoints * wordMultiplier + crossPoints);
+            }
+            if (position == LINE_LENGTH) {
+                return;
+            }
+        }
+        int square = squareAt(position);
+        if (board.isOccupied(square)) {
+            char letter = Character.toLowerCase(board.getLetter(square));
+            int nextNodeCount = letter == WordValidator.JOKER
+                    ? advance(position, nodeCount, -1)
+                    : advance(position, nodeCount, letter);
+            if (nextNodeCount > 0) {
+                extend(position + 1, nextNodeCount, letterPoints + board.getValue(square), wordMultiplier, crossPoints);
+            }
+            return;
+        }
+        if (remainingTiles == 0) {
+            return;
+        }
+        int allowedLetters = crossChecks.getCrossCheck(square, direction);
+        int crossSum = crossChecks.getCrossSum(square, direction);
+        int letterMultiplier = Scoring.letterMultiplier(square);
+        int squareWordMultiplier = Scoring.wordMultiplier(square);
+        for (int candidates = allowedLetters & rackLetters; candidates != 0; candidates &= candidates - 1) {
+            int letterIndex = Integer.numberOfTrailingZeros(candidates);
+            int nextNodeCount = advance(position, nodeCount, crossChecks.letterAt(letterIndex));
+            if (nextNodeCount > 0) {
+                if (--rackCounts[letterIndex] == 0) {
+                    rackLetters &= ~(1 << letterIndex);
+                }
+                place(position, nextNodeCount, rackTiles[letterIndex], rackValues[letterIndex] * letterMultiplier,
+                        letterPoints, wordMultiplier, crossPoints, squareWordMultiplier, crossSum);
+                rackCounts[letterIndex]++;
+                rackLetters |= 1 << letterIndex;
+            }
+        }
+        if (blanks > 0 && allowedLetters != 0) {
+            int nextNodeCount = advance(position, nodeCount, allowedLetters);
+            if (nextNodeCount > 0) {
+                blanks--;
+                place(position, nextNodeCount, blankTile, 0, letterPoints, wordMultiplier, crossPoints,
+                        squareWordMultiplier, crossSum);
+                blanks++;
+            }
+        }
+    }
+
+    private void place(int position, int nextNodeCount, Tile tile, int tilePoints, int letterPoints, int wordMultiplier,
+                       int crossPoints, int squareWordMultiplier, int crossSum) {
+        int crossWordPoints = crossSum == CrossChecks.NO_CROSS_WORD ? 0 : (crossSum + tilePoints) * squareWordMultiplier;
+        placedPositions[placedCount] = position;
+        placedTiles[placedCount] = tile;
+        placedCount++;
+        remainingTiles--;
+        extend(position + 1, nextNodeCount, letterPoints + tilePoints, wordMultiplier * squareWordMultiplier,
+                crossPoints + crossWordPoints);
+        remainingTiles++;
+        placedCount--;
+    }
+
+    private boolean isTerminal(int position, int nodeCount) {
+        int[] nodes = nodeSets[position];
+        for (int i = 0; i < nodeCount; i++) {
+            if (dawg.isTerminal(nodes[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follows the given letter from every node in the node set of the position and stores the reached nodes in the
+     * node set of the next position.
+     *
+     * @return the number of reached nodes
+     */
+    private int advance(int position, int nodeCount, char letter) {
+        int[] nodes = nodeSets[position];
+        int[] nextNodes = nodeSets(position + 1, nodeCount);
+        int nextNodeCount = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            int child = dawg.child(nodes[i], letter);
+            if (child != Dawg.NO_NODE) {
+                nextNodes[nextNodeCount++] = child;
+            }
+        }
+        return nextNodeCount > 1 ? unique(nextNodes, nextNodeCount) : nextNodeCount;
+    }
+
+    /**
+     * Follows every allowed letter from every node in the node set of the position and stores the reached nodes in
+     * the node set of the next position. This is the step of a joker.
+     *
+     * @return the number of reached nodes
+     */
+    private int advance(int position, int nodeCount, int allowedLetters) {
+        int[] nodes = nodeSets[position];
+        int nextNodeCount = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            int[] nextNodes = nodeSets(position + 1, nextNodeCount + dawg.edgeEnd(nodes[i]) - dawg.edgeBegin(nodes[i]));
+            for (int edge = dawg.edgeBegin(nodes[i]); edge < dawg.edgeEnd(nodes[i]); edge++) {
+                int letterIndex = crossChecks.letterIndex(dawg.edgeLetter(edge));
+                if (letterIndex >= 0 && (allowedLetters & (1 << letterIndex)) != 0) {
+                    nextNodes[nextNodeCount++] = dawg.edgeTarget(edge);
+                }
+            }
+        }
+        return nextNodeCount > 1 ? unique(nodeSets[position + 1], nextNodeCount) : nextNodeCount;
+    }
+
+    private int[] nodeSets(int position, int capacity) {
+        if (nodeSets[position].length < capacity) {
+            nodeSets[position] = Arrays.copyOf(nodeSets[position], Math.max(capacity, 2 * nodeSets[position].length));
+        }
+        return nodeSets[position];
+    }
+
+    private static int unique(int[] nodes, int nodeCount) {
+        Arrays.sort(nodes, 0, nodeCount);
+        int uniqueCount = 1;
+        for (int i = 1; i < nodeCount; i++) {
+            if (nodes[i] != nodes[uniqueCount - 1]) {
+                nodes[uniqueCount++] = nodes[i];
+            }
+        }
+        return uniqueCount;
+    }
+
+    private void record(int score) {
+        if (placedCount == 1 && direction == Config.Direction.DOWN
+                && crossChecks.getCrossSum(squareAt(placedPositions[0]), direction) != CrossChecks.NO_CROSS_WORD) {
+            return;
+        }
+        List<PlacedTile> tiles = new ArrayList<>(placedCount);
+        for (int i = 0; i < placedCount; i++) {
+            int square = squareAt(placedPositions[i]);
+            tiles.add(new PlacedTile(Board.row(square), Board.column(square), placedTiles[i]));
+        }
+        if (placedCount == Config.INITIAL_TILE_COUNT) {
+            score += Config.BINGO_BONUS;
+        }
+        consumer.accept(new ScoredMove(new Move(tiles), score));
+    }
+}
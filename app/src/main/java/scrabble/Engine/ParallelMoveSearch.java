@@ -0,0 +1,175 @@
+package scrabble.Engine;
+
+import scrabble.Model.Board;
+import scrabble.Model.PlacedTile;
+import scrabble.Model.Tile;
+import scrabble.WordValidator;
+import scrabble.config.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The ParallelMoveSearch class searches the best moves of a rack on a {@link ForkJoinPool}. Every row and every column
+ * of the board is an independent task which keeps its own best moves, the results are merged pairwise at the end.
+ * The moves are ranked by {@link #RANKING}, which is a total order, so the result does not depend on the number of
+ * threads or on the order in which the tasks finish.
+ */
+public class ParallelMoveSearch {
+    /**
+     * Ranks moves by score, higher scores first. Moves with the same score are ordered by the number of placed tiles
+     * and then by the squares and letters of the placed tiles, so two different moves never rank equal.
+     */
+    public static final Comparator<ScoredMove> RANKING = Comparator.comparingInt(ScoredMove::score).reversed()
+            .thenComparing(ScoredMove::move, Comparator.comparingInt(move -> move.getPlacedTiles().size()))
+            .thenComparing((first, second) -> comparePlacedTiles(first.move().getPlacedTiles(), second.move().getPlacedTiles()));
+    private static final int LINES = 2 * Config.BOARD_ROW_SIZE;
+
+    private final ForkJoinPool pool;
+    private final ThreadLocal<MoveGenerator> moveGenerators;
+
+    /**
+     * Creates a parallel move search on the common pool.
+     *
+     * @param wordValidator the word validator of the language of the game
+     * @param scoring       the scoring tables of the language of the game
+     */
+    public ParallelMoveSearch(WordValidator wordValidator, Scoring scoring) {
+        this(wordValidator, scoring, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parallel move search on the given pool.
+     *
+     * @param wordValidator the word validator of the language of the game
+     * @param scoring       the scoring tables of the language of the game
+     * @param pool          the pool which runs the tasks
+     */
+    public ParallelMoveSearch(WordValidator wordValidator, Scoring scoring, ForkJoinPool pool) {
+        this.pool = pool;
+        this.moveGenerators = ThreadLocal.withInitial(() -> new MoveGenerator(wordValidator, scoring));
+    }
+
+    /**
+     * Returns the best moves of the given rack on the given board. The board and the cross-checks must not be changed
+     * while the search is running.
+     *
+     * @param board       the board
+     * @param crossChecks the cross-checks of the board
+     * @param rack        the tiles of the player
+     * @param limit       the maximum number of moves to return
+     * @return at most limit moves ordered by {@link #RANKING}
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public List<ScoredMove> findTopMoves(Board board, CrossChecks crossChecks, List<Tile> rack, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit has to be greater than 0");
+        }
+        List<Tile> rackCopy = List.copyOf(rack);
+        return pool.invoke(new LineTask(board, crossChecks, rackCopy, limit, 0, LINES));
+    }
+
+    /**
+     * Returns the best move of the given rack on the given board.
+     *
+     * @param board       the board
+     * @param crossChecks the cross-checks of the board
+     * @param rack        the tiles of the player
+     * @return the best move according to {@link #RANKING} or null if there is no legal move
+     */
+    public ScoredMove findBestMove(Board board, CrossChecks crossChecks, List<Tile> rack) {
+        List<ScoredMove> moves = findTopMoves(board, crossChecks, rack, 1);
+        return moves.isEmpty() ? null : moves.get(0);
+    }
+
+    private static int comparePlacedTiles(List<PlacedTile> first, List<PlacedTile> second) {
+        for (int i = 0; i < first.size(); i++) {
+            PlacedTile firstTile = first.get(i);
+            PlacedTile secondTile = second.get(i);
+            int result = Integer.compare(Board.index(firstTile.row(), firstTile.col()),
+                    Board.index(secondTile.row(), secondTile.col()));
+            if (result == 0) {
+                result = Character.compare(firstTile.tile().letter(), secondTile.tile().letter());
+            }
+            if (result == 0) {
+                result = Integer.compare(firstTile.tile().value(), secondTile.tile().value());
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static List<ScoredMove> merge(List<ScoredMove> first, List<ScoredMove> second, int limit) {
+        List<ScoredMove> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j == second.size() || (i < first.size() && RANKING.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Searches the lines between two line numbers. Lines 0 to 14 are the rows, lines 15 to 29 the columns. Ranges of
+     * more than one line are split in half.
+     */
+    private final class LineTask extends RecursiveTask<List<ScoredMove>> {
+        private static final long serialVersionUID = 1L;
+        private final Board board;
+        private final CrossChecks crossChecks;
+        private final List<Tile> rack;
+        private final int limit;
+        private final int firstLine;
+        private final int endLine;
+
+        private LineTask(Board board, CrossChecks crossChecks, List<Tile> rack, int limit, int firstLine, int endLine) {
+            this.board = board;
+            this.crossChecks = crossChecks;
+            this.rack = rack;
+            this.limit = limit;
+            this.firstLine = firstLine;
+            this.endLine = endLine;
+        }
+
+        @Override
+        protected List<ScoredMove> compute() {
+            if (endLine - firstLine == 1) {
+                return searchLine();
+            }
+            int middle = (firstLine + endLine) >>> 1;
+            LineTask left = new LineTask(board, crossChecks, rack, limit, firstLine, middle);
+            LineTask right = new LineTask(board, crossChecks, rack, limit, middle, endLine);
+            right.fork();
+            List<ScoredMove> leftMoves = left.compute();
+            return merge(leftMoves, right.join(), limit);
+        }
+
+        private List<ScoredMove> searchLine() {
+            PriorityQueue<ScoredMove> bestMoves = new PriorityQueue<>(RANKING.reversed());
+            Config.Direction direction = firstLine < Config.BOARD_ROW_SIZE ? Config.Direction.RIGHT : Config.Direction.DOWN;
+            int line = firstLine % Config.BOARD_ROW_SIZE;
+            moveGenerators.get().generateLine(board, crossChecks, rack, direction, line, move -> {
+                if (bestMoves.size() < limit) {
+                    bestMoves.add(move);
+                } else if (RANKING.compare(move, bestMoves.peek()) < 0) {
+                    bestMoves.poll();
+                    bestMoves.add(move);
+                }
+            });
+            List<ScoredMove> moves = new ArrayList<>(bestMoves);
+            Collections.sort(moves, RANKING);
+            return moves;
+        }
+    }
+}
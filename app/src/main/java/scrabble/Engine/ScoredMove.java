@@ -0,0 +1,12 @@
+package scrabble.Engine;
+
+import scrabble.Model.Move;
+
+/**
+ * This record represents a legal move found by the {@link MoveGenerator} together with its score.
+ *
+ * @param move  the move
+ * @param score the points the move scores including the bingo bonus
+ */
+public record ScoredMove(Move move, int score) {
+}
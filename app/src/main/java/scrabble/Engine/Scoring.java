@@ -0,0 +1,101 @@
+package scrabble.Engine;
+
+import scrabble.Model.Board;
+import scrabble.Model.Tile;
+import scrabble.config.Config;
+
+import java.util.Map;
+
+/**
+ * The Scoring class holds the lookup tables used to score words and moves. The values of the letters of a language are
+ * stored in an array indexed by the letter, upper and lower case alike, and the letter and word multipliers of the
+ * squares in arrays indexed by the square. The tables are built once, so scoring a letter is a plain array access
+ * instead of a search through the tiles of the language.
+ */
+public final class Scoring {
+    private static final int[] LETTER_MULTIPLIERS = new int[Board.SIZE];
+    private static final int[] WORD_MULTIPLIERS = new int[Board.SIZE];
+    private static final Scoring[] LANGUAGES = new Scoring[Config.LANGUAGE.values().length];
+
+    static {
+        for (int square = 0; square < Board.SIZE; square++) {
+            Config.EFFECT effect = Board.getEffect(square);
+            LETTER_MULTIPLIERS[square] = switch (effect) {
+                case DOUBLE_LETTER -> 2;
+                case TRIPLE_LETTER -> 3;
+                default -> 1;
+            };
+            WORD_MULTIPLIERS[square] = switch (effect) {
+                case DOUBLE_WORD -> 2;
+                case TRIPLE_WORD -> 3;
+                default -> 1;
+            };
+        }
+        for (Config.LANGUAGE language : Config.LANGUAGE.values()) {
+            LANGUAGES[language.ordinal()] = new Scoring(switch (language) {
+                case DE -> Config.DE_TILES;
+                case EN -> Config.EN_TILES;
+            });
+        }
+    }
+
+    private final int[] letterValues;
+
+    /**
+     * Creates the letter values of the given tile set.
+     *
+     * @param tiles the tiles of a language with the number of each tile
+     */
+    public Scoring(Map<Tile, Integer> tiles) {
+        int maxLetter = 0;
+        for (Tile tile : tiles.keySet()) {
+            maxLetter = Math.max(maxLetter, Math.max(Character.toUpperCase(tile.letter()),
+                    Character.toLowerCase(tile.letter())));
+        }
+        letterValues = new int[maxLetter + 1];
+        for (Tile tile : tiles.keySet()) {
+            letterValues[Character.toUpperCase(tile.letter())] = tile.value();
+            letterValues[Character.toLowerCase(tile.letter())] = tile.value();
+        }
+    }
+
+    /**
+     * Returns the shared scoring tables of the given language.
+     *
+     * @param language the language
+     * @return the scoring tables of the language
+     */
+    public static Scoring forLanguage(Config.LANGUAGE language) {
+        return LANGUAGES[language.ordinal()];
+    }
+
+    /**
+     * Returns the value of the given letter. The joker and letters which are not in the tile set are worth nothing.
+     *
+     * @param letter the letter in upper or lower case
+     * @return the value of the letter
+     */
+    public int letterValue(char letter) {
+        return letter < letterValues.length ? letterValues[letter] : 0;
+    }
+
+    /**
+     * Returns the factor the value of a letter placed on the given square is multiplied with.
+     *
+     * @param square the index of the square
+     * @return 3 on a triple letter square, 2 on a double letter square and 1 otherwise
+     */
+    public static int letterMultiplier(int square) {
+        return LETTER_MULTIPLIERS[square];
+    }
+
+    /**
+     * Returns the factor a word covering the given square with a newly placed tile is multiplied with.
+     *
+     * @param square the index of the square
+     * @return 3 on a triple word square, 2 on a double word square and 1 otherwise
+     */
+    public static int wordMultiplier(int square) {
+        return WORD_MULTIPLIERS[square];
+    }
+}
@@ -1,18 +1,28 @@
 package scrabble;
 
 
-import javafx.beans.property.*;
 import scrabble.config.Config;
 
 import java.io.IOException;
 import java.util.*;
 
+import scrabble.Engine.CrossChecks;
+import scrabble.Engine.MoveEvaluator;
+import scrabble.Engine.MoveGenerator;
+import scrabble.Engine.ParallelMoveSearch;
+import scrabble.Engine.ScoredMove;
+import scrabble.Engine.Scoring;
+import scrabble.Model.ComputerPlayer;
 import scrabble.Model.Player;
 import scrabble.Model.Bag;
 import scrabble.Model.Board;
-import scrabble.Model.Field;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
 import scrabble.Model.Tile;
 import scrabble.Log.Logging;
+import scrabble.Metrics.Counter;
+import scrabble.Metrics.Histogram;
+import scrabble.Metrics.Metrics;
 
 import java.util.List;
 import java.util.logging.Level;
@@ -28,16 +38,26 @@ import static scrabble.config.Config.Direction.*;
 public class Game {
 
     private static final Logger logger = java.util.logging.Logger.getLogger(Logging.class.getCanonicalName());
+    private static final Move NO_MOVE = new Move(List.of());
+    private static final Histogram FINISH_TURN_NANOS = Metrics.histogram("game.finishTurn.nanos");
+    private static final Histogram FINISH_TURN_BYTES = Metrics.histogram("game.finishTurn.allocatedBytes");
+    private static final Counter FINISHED_TURNS = Metrics.counter("game.turns.finished");
+    private static final Counter REJECTED_TURNS = Metrics.counter("game.turns.rejected");
     private Bag bag;
     private Board existingBoard;
     private List<Player> players;
-    private final IntegerProperty currentPlayerIndex;
+    private int currentPlayerIndex;
     private int skippedTurns;
-    private boolean middleFieldIsUsed;
-    private BooleanProperty invalidWord;
+    private boolean invalidWord;
     private Config.LANGUAGE language;
     private WordValidator wordValidator;
-    private ObjectProperty<GAME_STATE> gameState;
+    private MoveEvaluator moveEvaluator;
+    private CrossChecks crossChecks;
+    private MoveGenerator moveGenerator;
+    private ParallelMoveSearch moveSearch;
+    private Config.LANGUAGE wordValidatorLanguage;
+    private GAME_STATE gameState;
+    private final List<GameListener> listeners;
 
 
     /**
@@ -52,9 +72,10 @@ public class Game {
      * currentPlayerIndex and gameOverByClosing properties.
      */
     public Game() {
-        invalidWord = new SimpleBooleanProperty(false);
-        gameState = new SimpleObjectProperty<>(GAME_STATE.GAME_RUNNING);
-        currentPlayerIndex = new SimpleIntegerProperty(0);
+        invalidWord = false;
+        gameState = GAME_STATE.GAME_RUNNING;
+        currentPlayerIndex = 0;
+        listeners = new ArrayList<>();
         skippedTurns = 0;
         existingBoard = new Board();
         logger.log(Level.INFO, "Game Object created.");
@@ -62,33 +83,59 @@ public class Game {
 
     /**
      * Sets up a new game by initializing the Bag and distributing the initial tiles
-     * to the players.
+     * to the players. The word validator of the language is shared with all other games of the same language.
      *
      * @param language The language for the game
      * @param players  The list of players in the game
      */
     public void setUpGame(Config.LANGUAGE language, List<Player> players) {
+        setUpGame(language, players, new Bag(language));
+    }
+
+    /**
+     * Sets up a new game like {@link #setUpGame(Config.LANGUAGE, List)}, but draws the tiles from a bag with the
+     * given seed, so that the game can be reproduced.
+     *
+     * @param language The language for the game
+     * @param players  The list of players in the game
+     * @param seed     The seed of the bag
+     */
+    public void setUpGame(Config.LANGUAGE language, List<Player> players, long seed) {
+        setUpGame(language, players, new Bag(language, seed));
+    }
+
+    private void setUpGame(Config.LANGUAGE language, List<Player> players, Bag bag) {
         if (players.size() < 2 || players.size() > 4) throw new IllegalArgumentException("Invalid number of players");
+        releaseWordValidator();
         this.players = players;
         this.language = language;
         setWordValidator();
-        bag = new Bag(language);
+        this.bag = bag;
         distributeInitialTiles();
-        logger.log(Level.FINE, "Game is set up -> {0}", this.toString());
+        logger.log(Level.FINE, () -> "Game is set up -> " + this);
     }
 
     public Board getBoard() {
         return existingBoard;
     }
 
+    /**
+     * Returns the cross-checks and anchor squares of the board, which are kept up to date after every move.
+     *
+     * @return the cross-checks of the board
+     */
+    public CrossChecks getCrossChecks() {
+        return crossChecks;
+    }
+
     private void setWordValidator() {
         try {
-            switch (language) {
-                case EN -> wordValidator = new WordValidator(Config.enWordList, Config.EN_TILES);
-                case DE -> wordValidator = new WordValidator(Config.deWordList, Config.DE_TILES);
-                default -> throw new
-                        IllegalArgumentException(String.format("No wordlist available for the language %s", language));
-            }
+            wordValidator = WordValidatorRegistry.getInstance().acquire(language);
+            Scoring scoring = Scoring.forLanguage(language);
+            moveEvaluator = new MoveEvaluator(wordValidator, scoring);
+            crossChecks = new CrossChecks(wordValidator, existingBoard);
+            moveGenerator = new MoveGenerator(wordValidator, scoring);
+            wordValidatorLanguage = language;
         } catch (IOException e) {
             logger.log(Level.SEVERE, "The wordlist could not be set");
             throw new RuntimeException(e);
@@ -96,6 +143,13 @@ public class Game {
         logger.log(Level.INFO, "The wordlist for the language \"{0}\" was set successfully", language);
     }
 
+    private void releaseWordValidator() {
+        if (wordValidatorLanguage != null) {
+            WordValidatorRegistry.getInstance().release(wordValidatorLanguage);
+            wordValidatorLanguage = null;
+        }
+    }
+
 
     /**
      * Returns the current player whose turn it is.
@@ -103,142 +157,179 @@ public class Game {
      * @return The current player object
      */
     public Player getCurrentPlayer() {
-        return players.get(currentPlayerIndex.get());
+        return players.get(currentPlayerIndex);
     }
 
-    public IntegerProperty getCurrentPlayerIndex() {
+    public int getCurrentPlayerIndex() {
         return currentPlayerIndex;
     }
 
+    /**
+     * Returns the number of tiles which are left in the bag.
+     *
+     * @return the number of remaining tiles or 0 if the game is not set up yet
+     */
+    public int getRemainingTiles() {
+        return bag != null ? bag.getRemainingTiles() : 0;
+    }
+
     private void switchToNextPlayer() {
-        currentPlayerIndex.set(currentPlayerIndex.get() < players.size() - 1 ? currentPlayerIndex.get() + 1 : 0);
-        logger.log(Level.INFO, "Switched to next player: {0}, number of skipped turns: {1}", new Object[]{getCurrentPlayer().getPlayerName(), skippedTurns});
+        currentPlayerIndex = currentPlayerIndex < players.size() - 1 ? currentPlayerIndex + 1 : 0;
+        for (int i = 0; i < listeners.size(); i++) {
+            GameListener listener = listeners.get(i);
+            listener.onCurrentPlayerChanged(currentPlayerIndex);
+        }
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "Switched to next player: {0}, number of skipped turns: {1}",
+                    new Object[]{getCurrentPlayer().getPlayerName(), skippedTurns});
+        }
     }
 
     /**
-     * Method to finish the turn of the current player and update the game board and player score accordingly.
+     * Method to finish the turn of the current player with the tiles placed on the given board.
      *
      * @param newBoard the current game board
      * @return true if the turn was successfully finished, false otherwise
      */
     public boolean playerFinishTurn(Board newBoard) {
-        logger.log(Level.INFO, "Entering playerFinishTurn method.");
-        invalidWord.set(false);
-        List<Field> resultFields;
-        String word;
-        int beginningRow = 0;
-        int beginningColumn = 0;
-        boolean foundBeginning = false;
-        Map<String, List<Field>> newFields = new HashMap<>();
-
-        for (int i = 0; i < newBoard.getBoard().length; i++) {
-            for (int j = 0; j < newBoard.getBoard()[i].length; j++) {
-                if (newBoard.getField(i, j).isOccupied() && !existingBoard.getField(i, j).isOccupied()) {
-                    logger.log(Level.INFO, "Found new {2} on: x={1}, y={0}", new Object[]{i, j, newBoard.getField(i, j).getOccupant()});
-                    if (!foundBeginning) {
-                        beginningRow = i;
-                        beginningColumn = j;
-                        foundBeginning = true;
-                        if (i == 7 && j == 7) {
-                            middleFieldIsUsed = true;
-                        }
-                        logger.log(Level.INFO, "Found beginning of word on: x={1}, y={0}", new Object[]{i, j});
-                    }
-                }
-            }
-        }
-        if (!middleFieldIsUsed) {
-            logger.log(Level.INFO, "Middle field is not used.");
-            return false;
+        return playerFinishTurn(Move.fromBoards(existingBoard, newBoard));
+    }
+
+    /**
+     * Method to finish the turn of the current player with the given move and update the game board and player
+     * score accordingly. An empty move skips the turn. Apart from logging at level FINE, finishing a turn does not
+     * allocate anything.
+     *
+     * @param move the tiles the current player placed on the board
+     * @return true if the turn was successfully finished, false otherwise
+     */
+    public boolean playerFinishTurn(Move move) {
+        if (!Metrics.ENABLED) {
+            return finishTurn(move);
         }
-        resultFields = getFieldsInWord(newBoard, beginningRow, beginningColumn);
-        word = getWordFromFields(resultFields);
-        if (word.isEmpty()) {
+        long start = System.nanoTime();
+        long allocatedBytes = Metrics.allocatedBytes();
+        boolean finished = finishTurn(move);
+        FINISH_TURN_NANOS.record(System.nanoTime() - start);
+        FINISH_TURN_BYTES.record(Metrics.allocatedBytes() - allocatedBytes);
+        (finished ? FINISHED_TURNS : REJECTED_TURNS).increment();
+        return finished;
+    }
+
+    private boolean finishTurn(Move move) {
+        logger.log(Level.FINE, "Entering playerFinishTurn method.");
+        setInvalidWord(false);
+        if (move.isEmpty()) {
             logger.log(Level.INFO, "Turn was skipped.");
             playerSkipTurn();
             return true;
         }
-        logger.log(Level.INFO, "Found new word: {0}", word);
-        newFields.put(word, resultFields);
-
-        if (validateWords(newFields.keySet()) && middleFieldIsUsed) {
-            newFields.values().forEach(fields -> {
-                givePlayerPoints(fields);
-                fields.forEach(field -> {
-                    if (getCurrentPlayer().getTileList().contains(field.getOccupant())) {
-                        getCurrentPlayer().dropTileFromTileList(field.getOccupant());
-                    }
-                });
-            });
-            skippedTurns = 0;
-            this.existingBoard = newBoard;
-            bag.getNTiles(Config.INITIAL_TILE_COUNT - getCurrentPlayer().getTileList().size()).forEach(getCurrentPlayer()::addTileToTileList);
-            logger.log(Level.INFO, "Turn finished successfully with word: {0}.", word);
-            switchToNextPlayer();
-            return true;
+        if (!move.isValidOn(existingBoard) || !currentPlayerHoldsTiles(move)) {
+            logger.log(Level.INFO, "Move can not be placed on the board: {0}", move);
+            return false;
         }
-        logger.log(Level.INFO, "Turn could not be finished. Invalid word(s) found.");
-        return false;
-    }
-
-    private List<Field> getFieldsInWord(Board board, int i, int j) {
-        List<Field> fields = new ArrayList<>();
-        int row = i;
-        int column = j;
-        if ((row + 1 <= Config.BOARD_ROW_SIZE - 1 && board.getField(row + 1, column).isOccupied()) || (row - 1 >= 0 && board.getField(row - 1, column).isOccupied())) {
-            row--;
-            while (row >= 0 && board.getField(row, column).isOccupied()) {
-                fields.add(board.getField(row, column));
-                row--;
-            }
-            row = i;
-            fields.add(board.getField(i, j));
-            row++;
-            while (row <= Config.BOARD_ROW_SIZE - 1 && board.getField(row, column).isOccupied()) {
-                fields.add(board.getField(row, column));
-                row++;
-            }
-        } else if ((column + 1 <= Config.BOARD_COL_SIZE - 1 && board.getField(row, column + 1).isOccupied()) || (column - 1 >= 0 && board.getField(row, column - 1).isOccupied())) {
-            column--;
-            while (column >= 0 && board.getField(row, column).isOccupied()) {
-                fields.add(board.getField(row, column));
-                column--;
-            }
-            column = j;
-            fields.add(board.getField(i, j));
-            column++;
-            while (column <= Config.BOARD_COL_SIZE - 1 && board.getField(row, column).isOccupied()) {
-                fields.add(board.getField(row, column));
-                column++;
-            }
+        int score = moveEvaluator.score(existingBoard, move);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "Found new words: {0}", moveEvaluator.findWords(existingBoard, move));
         }
-        return fields;
-    }
 
-    private String getWordFromFields(List<Field> fields) {
-        StringBuilder word = new StringBuilder();
-        for (Field field : fields) {
-            word.append(field.getOccupant().letter());
+        if (score == MoveEvaluator.INVALID) {
+            logger.log(Level.INFO, "Turn could not be finished. Invalid word(s) found.");
+            return false;
         }
-        return word.toString();
+        move.applyTo(existingBoard);
+        crossChecks.update(existingBoard, move);
+        Player currentPlayer = getCurrentPlayer();
+        currentPlayer.addPoints(score);
+        for (int i = 0; i < listeners.size(); i++) {
+            GameListener listener = listeners.get(i);
+            listener.onPointsChanged(currentPlayer, currentPlayer.getPoints());
+        }
+        List<PlacedTile> placedTiles = move.getPlacedTiles();
+        for (int i = 0; i < placedTiles.size(); i++) {
+            currentPlayer.dropTileFromTileList(placedTiles.get(i).tile());
+        }
+        skippedTurns = 0;
+        bag.drawTiles(Config.INITIAL_TILE_COUNT - currentPlayer.getTileList().size(), currentPlayer.getTileList());
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "Turn finished successfully with {0} points.", score);
+        }
+        switchToNextPlayer();
+        return true;
     }
 
-    private boolean validateWords(Set<String> words) {
-        for (String word : words) {
-            if (!wordValidator.containsWord(word)) {
-                return false;
+    /**
+     * Plays the turn of the current player, which has to be a computer player, with the move scoring the most points.
+     * If the hand allows no legal move, it is swapped if the bag still holds a full hand and the turn is skipped
+     * otherwise.
+     *
+     * @return the played move, which is empty if the hand was swapped or the turn was skipped
+     * @throws IllegalStateException if the current player is not a computer player
+     */
+    public Move playComputerTurn() {
+        if (!(getCurrentPlayer() instanceof ComputerPlayer)) {
+            throw new IllegalStateException("The current player is not a computer player");
+        }
+        ScoredMove bestMove = suggestMove();
+        if (bestMove != null && playerFinishTurn(bestMove.move())) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.log(Level.FINE, "Computer player played a move with {0} points.", bestMove.score());
             }
+            return bestMove.move();
         }
-        return true;
+        if (bag.getRemainingTiles() >= Config.INITIAL_TILE_COUNT) {
+            playerSwapHand();
+        } else {
+            playerFinishTurn(NO_MOVE);
+        }
+        return NO_MOVE;
     }
 
-    private String extractWord(List<Field> fields) {
-        String word = "";
-        for (Field field : fields) {
-            if (!field.isOccupied()) throw new IllegalArgumentException("Fields don't contain a word");
-            word += field.getOccupant().letter();
+    /**
+     * Sets a parallel move search which is used instead of the sequential move generator to find the moves of the
+     * computer players and the suggested moves. The search can be shared by many games of the same language.
+     *
+     * @param moveSearch the parallel move search for the language of the game or null to search sequentially
+     */
+    public void setMoveSearch(ParallelMoveSearch moveSearch) {
+        this.moveSearch = moveSearch;
+    }
+
+    /**
+     * Returns the move scoring the most points with the hand of the current player without playing it.
+     *
+     * @return the best move or null if the hand allows no legal move
+     */
+    public ScoredMove suggestMove() {
+        List<Tile> hand = getCurrentPlayer().getTileList();
+        return moveSearch != null
+                ? moveSearch.findBestMove(existingBoard, crossChecks, hand)
+                : moveGenerator.findBestMove(existingBoard, crossChecks, hand);
+    }
+
+    /**
+     * Checks whether the current player holds all tiles of the move. Every tile of the hand can be used only once,
+     * the used tiles are marked in a bitmask instead of a copy of the hand.
+     */
+    private boolean currentPlayerHoldsTiles(Move move) {
+        List<Tile> hand = getCurrentPlayer().getTileList();
+        List<PlacedTile> placedTiles = move.getPlacedTiles();
+        if (placedTiles.size() > hand.size() || hand.size() > Long.SIZE) {
+            return false;
         }
-        return word;
+        long usedTiles = 0;
+        for (int i = 0; i < placedTiles.size(); i++) {
+            Tile tile = placedTiles.get(i).tile();
+            int handIndex = 0;
+            while (handIndex < hand.size() && ((usedTiles & (1L << handIndex)) != 0 || !hand.get(handIndex).equals(tile))) {
+                handIndex++;
+            }
+            if (handIndex == hand.size()) {
+                return false;
+            }
+            usedTiles |= 1L << handIndex;
+        }
+        return true;
     }
 
     /**
@@ -257,7 +348,8 @@ public class Game {
     private void playerSkipTurn() {
         skippedTurns++;
         if (gameOverBySkipping()) {
-            gameState.setValue(GAME_OVER);
+            setGameState(GAME_OVER);
+            releaseWordValidator();
             logger.log(Level.INFO, "Game is over by skipping turns.");
         }
         switchToNextPlayer();
@@ -271,7 +363,8 @@ public class Game {
      * Sets the gameOverByClosing flag to true to indicate the game was ended by closing the window
      */
     public void handleEndingForCloseWindow() {
-        gameState.setValue(GAME_ABORTED);
+        setGameState(GAME_ABORTED);
+        releaseWordValidator();
         logger.log(Level.INFO, "Game is over by closing the window.");
     }
 
@@ -294,60 +387,6 @@ public class Game {
         logger.log(Level.INFO, "Initial tiles are distributed.");
     }
 
-    private void givePlayerPoints(List<Field> fields) {
-        String word = extractWord(fields);
-        int points = 0;
-        for (int i = 0; i < word.length(); i++) {
-            char c = word.charAt(i);
-            points += calculatePointsForChar(c, fields.get(i).getEffect());
-        }
-        players.get(currentPlayerIndex.get()).addPoints(calculatePointsForWord(points, fields));
-    }
-
-    private int calculatePointsForWord(int points, List<Field> fields) {
-        for (Field field : fields) {
-            if (field.getEffect().equals(Config.EFFECT.DOUBLE_WORD)) return 2 * points;
-            if (field.getEffect().equals(Config.EFFECT.TRIPLE_WORD)) return 3 * points;
-        }
-        return points;
-    }
-
-    private int calculatePointsForChar(char c, Config.EFFECT effect) {
-        switch (effect) {
-            case DOUBLE_LETTER -> {
-                return 2 * getPointsForChar(c);
-            }
-            case TRIPLE_LETTER -> {
-                return 3 * getPointsForChar(c);
-            }
-            default -> {
-                return getPointsForChar(c);
-            }
-        }
-    }
-
-    private int getPointsForChar(char c) {
-        for (Map.Entry<Tile, Integer> entry : getPointReference().entrySet()) {
-            if (entry.getKey().letter() == c) {
-                logger.log(Level.FINE, "Points for char \"{0}\" are \"{1}\".", new Object[]{c, entry.getKey().value()});
-                return entry.getKey().value();
-            }
-        }
-        throw new IllegalArgumentException("Character is not in tile set");
-    }
-
-    private Map<Tile, Integer> getPointReference() {
-        switch (language) {
-            case DE -> {
-                return Config.DE_TILES;
-            }
-            case EN -> {
-                return Config.EN_TILES;
-            }
-            default -> throw new IllegalArgumentException("No tile set for language " + language + " found");
-        }
-    }
-
     /**
      * Returns the player with the highest number of points among all players.
      * If there are multiple players with the same highest number of points,
@@ -359,10 +398,10 @@ public class Game {
         int maxPoints = 0;
         Player winningPlayer = null;
         for (Player player : players) {
-            if (maxPoints < player.getPoints().get()) {
-                maxPoints = player.getPoints().get();
+            if (maxPoints < player.getPoints()) {
+                maxPoints = player.getPoints();
                 winningPlayer = player;
-            } else if (maxPoints == player.getPoints().get()) {
+            } else if (maxPoints == player.getPoints()) {
                 winningPlayer = null;
             }
         }
@@ -370,17 +409,55 @@ public class Game {
     }
 
     public GAME_STATE getGameState() {
-        return gameState.get();
+        return gameState;
     }
 
-    public ObjectProperty<GAME_STATE> gameStateProperty() {
-        return gameState;
+    private void setGameState(GAME_STATE gameState) {
+        this.gameState = gameState;
+        for (int i = 0; i < listeners.size(); i++) {
+            GameListener listener = listeners.get(i);
+            listener.onGameStateChanged(gameState);
+        }
     }
 
-    public BooleanProperty invalidWordProperty() {
+    public boolean isInvalidWord() {
         return invalidWord;
     }
 
+    /**
+     * Sets whether the last turn of the current player could not be finished because of an invalid word and informs
+     * the listeners if the value changed.
+     *
+     * @param invalidWord true if the last turn contained an invalid word
+     */
+    public void setInvalidWord(boolean invalidWord) {
+        if (this.invalidWord != invalidWord) {
+            this.invalidWord = invalidWord;
+            for (int i = 0; i < listeners.size(); i++) {
+                GameListener listener = listeners.get(i);
+                listener.onInvalidWordChanged(invalidWord);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener which is informed about the state changes of the game.
+     *
+     * @param listener the listener to add
+     */
+    public void addGameListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener which was registered with {@link #addGameListener(GameListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeGameListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
     @Override
     public String toString() {
         return "Game{" +
@@ -0,0 +1,157 @@
+package scrabble;
+
+import scrabble.Log.Logging;
+import scrabble.Model.Move;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A GameActor owns a {@link Game} and changes it only through the messages in its mailbox. Messages can be sent from
+ * any thread and are added to a lock-free queue. Whenever the mailbox is not empty, the actor is scheduled on the given
+ * executor, which is shared by many actors, and processes the messages one after the other. Because at most one
+ * thread drains the mailbox at a time, the game has a single writer and needs no locks. After a batch of messages the
+ * actor gives its thread back to the executor, so that a busy game cannot starve the others.
+ * <p>
+ * After every message the actor publishes an immutable {@link GameSnapshot}, which any thread can read without
+ * sending a message. The events of the game are sent to its listeners on the thread which processes the message.
+ */
+public final class GameActor {
+    private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+    private static final int BATCH_SIZE = 64;
+    private static final Move NO_MOVE = new Move(List.of());
+
+    private final Game game;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private long version;
+    private volatile GameSnapshot snapshot;
+
+    /**
+     * Creates an actor for the given game. The game must not be used except through the actor afterwards.
+     *
+     * @param game     the game
+     * @param executor the executor which processes the messages
+     */
+    public GameActor(Game game, Executor executor) {
+        this.game = game;
+        this.executor = executor;
+        this.snapshot = GameSnapshot.of(game, version);
+    }
+
+    /**
+     * Returns the state of the game after the last processed message.
+     *
+     * @return the latest snapshot of the game
+     */
+    public GameSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sends a message which reads or changes the game and returns its result.
+     *
+     * @param message the message, which is called with the game
+     * @param <T>     the type of the result
+     * @return the result, which is completed on the thread of the actor, or completed exceptionally if the message
+     * threw an exception or an error, so that the caller never waits for a result which does not come
+     */
+    public <T> CompletableFuture<T> ask(Function<Game, T> message) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                result.complete(message.apply(game));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    /**
+     * Sends a message which reads or changes the game.
+     *
+     * @param message the message, which is called with the game
+     * @return completed when the message was processed, or completed exceptionally if the message failed
+     */
+    public CompletableFuture<Void> tell(Consumer<Game> message) {
+        return ask(game -> {
+            message.accept(game);
+            return null;
+        });
+    }
+
+    /**
+     * Finishes the turn of the current player with the given move.
+     *
+     * @param move the tiles the current player placed on the board
+     * @return true if the turn was finished, false if the move is invalid
+     */
+    public CompletableFuture<Boolean> place(Move move) {
+        return ask(game -> game.playerFinishTurn(move));
+    }
+
+    /**
+     * Swaps the hand of the current player.
+     *
+     * @return completed when the hand was swapped
+     */
+    public CompletableFuture<Void> swap() {
+        return tell(Game::playerSwapHand);
+    }
+
+    /**
+     * Skips the turn of the current player.
+     *
+     * @return completed when the turn was skipped
+     */
+    public CompletableFuture<Void> skip() {
+        return tell(game -> game.playerFinishTurn(NO_MOVE));
+    }
+
+    /**
+     * Aborts the game if it is still running.
+     *
+     * @return completed when the game was aborted
+     */
+    public CompletableFuture<Void> quit() {
+        return tell(game -> {
+            if (game.getGameState() == Game.GAME_STATE.GAME_RUNNING) {
+                game.handleEndingForCloseWindow();
+            }
+        });
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable message;
+            for (int i = 0; i < BATCH_SIZE && (message = mailbox.poll()) != null; i++) {
+                message.run();
+                snapshot = GameSnapshot.of(game, ++version);
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "The game actor failed to take a snapshot.", e);
+        } finally {
+            scheduled.set(false);
+            if (!mailbox.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
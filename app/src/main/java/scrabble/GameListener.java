@@ -0,0 +1,43 @@
+package scrabble;
+
+import scrabble.Model.Player;
+
+/**
+ * A GameListener is informed about the state changes of a {@link Game}. The events are sent on the thread which
+ * changed the game. All methods do nothing by default, so a listener only implements the events it needs.
+ */
+public interface GameListener {
+
+    /**
+     * Called when the turn passes to another player.
+     *
+     * @param currentPlayerIndex the index of the player whose turn it is now
+     */
+    default void onCurrentPlayerChanged(int currentPlayerIndex) {
+    }
+
+    /**
+     * Called when the state of the game changes.
+     *
+     * @param gameState the new state of the game
+     */
+    default void onGameStateChanged(Game.GAME_STATE gameState) {
+    }
+
+    /**
+     * Called when the last finished turn turns out to be invalid or a new turn is attempted.
+     *
+     * @param invalidWord true if the last turn could not be finished because of an invalid word
+     */
+    default void onInvalidWordChanged(boolean invalidWord) {
+    }
+
+    /**
+     * Called when a player has received points.
+     *
+     * @param player the player
+     * @param points the new score of the player
+     */
+    default void onPointsChanged(Player player, int points) {
+    }
+}
@@ -0,0 +1,156 @@
+package scrabble;
+
+import scrabble.Model.Board;
+import scrabble.Model.Player;
+import scrabble.Model.Tile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A GameSnapshot is the immutable state of a {@link Game} at one point in time, as published by a {@link GameActor}
+ * after each message. It can be read from any thread. The board is a private copy which is only exposed through read
+ * methods or as a new copy.
+ */
+public final class GameSnapshot {
+    private final long version;
+    private final Game.GAME_STATE gameState;
+    private final int currentPlayerIndex;
+    private final int remainingTiles;
+    private final List<PlayerState> players;
+    private final Board board;
+
+    /**
+     * The state of one player of the game.
+     *
+     * @param name   the name of the player
+     * @param points the points of the player
+     * @param rack   the tiles in the hand of the player
+     */
+    public record PlayerState(String name, int points, List<Tile> rack) {
+
+        /**
+         * Creates the state of a player with an unmodifiable copy of the rack.
+         */
+        public PlayerState {
+            rack = List.copyOf(rack);
+        }
+    }
+
+    private GameSnapshot(long version, Game.GAME_STATE gameState, int currentPlayerIndex, int remainingTiles,
+                         List<PlayerState> players, Board board) {
+        this.version = version;
+        this.gameState = gameState;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.remainingTiles = remainingTiles;
+        this.players = players;
+        this.board = board;
+    }
+
+    /**
+     * Takes a snapshot of the game. Must be called by the thread which owns the game.
+     *
+     * @param game    the game
+     * @param version the number of messages the game has processed
+     * @return the snapshot
+     */
+    static GameSnapshot of(Game game, long version) {
+        List<PlayerState> players = new ArrayList<>();
+        if (game.getPlayers() != null) {
+            for (Player player : game.getPlayers()) {
+                players.add(new PlayerState(player.getPlayerName(), player.getPoints(), player.getTileList()));
+            }
+        }
+        return new GameSnapshot(version, game.getGameState(), game.getCurrentPlayerIndex(), game.getRemainingTiles(),
+                List.copyOf(players), new Board(game.getBoard()));
+    }
+
+    /**
+     * Returns the number of messages the game had processed when the snapshot was taken. A snapshot with a higher
+     * version is newer.
+     *
+     * @return the version of the snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Game.GAME_STATE getGameState() {
+        return gameState;
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public int getRemainingTiles() {
+        return remainingTiles;
+    }
+
+    /**
+     * Returns the state of the player whose turn it is.
+     *
+     * @return the current player or null if the game is not set up yet
+     */
+    public PlayerState getCurrentPlayer() {
+        return players.isEmpty() ? null : players.get(currentPlayerIndex);
+    }
+
+    /**
+     * Returns the state of the player with the given name.
+     *
+     * @param name the name of the player
+     * @return the player or null if the game has no player with this name
+     */
+    public PlayerState getPlayer(String name) {
+        for (PlayerState player : players) {
+            if (player.name().equals(name)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public List<PlayerState> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns whether the square with the given index is occupied.
+     *
+     * @param index the index of the square
+     * @return true if a tile lies on the square
+     */
+    public boolean isOccupied(int index) {
+        return board.isOccupied(index);
+    }
+
+    /**
+     * Returns the letter of the tile on the square with the given index.
+     *
+     * @param index the index of the square
+     * @return the letter of the tile or 0 if the square is empty
+     */
+    public char getLetter(int index) {
+        return board.getLetter(index);
+    }
+
+    /**
+     * Returns the value of the tile on the square with the given index.
+     *
+     * @param index the index of the square
+     * @return the value of the tile or 0 if the square is empty
+     */
+    public int getValue(int index) {
+        return board.getValue(index);
+    }
+
+    /**
+     * Returns a copy of the board, which the caller may change.
+     *
+     * @return a new board with the tiles of the snapshot
+     */
+    public Board getBoard() {
+        return new Board(board);
+    }
+}
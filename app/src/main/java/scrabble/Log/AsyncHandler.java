@@ -0,0 +1,270 @@
+package scrabble.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * The AsyncHandler decouples logging from writing the log. Published records are put into a bounded ring buffer and
+ * a background thread passes them to the target handlers in batches and flushes the targets once per batch, so the
+ * thread which logs never waits for disk or console I/O.
+ * <p>
+ * If the buffer is full, records below {@link Level#WARNING} are dropped and counted, the writer reports the number
+ * of dropped records with the next batch. Warnings and errors wait for free space instead, as long as the writer is
+ * running. A target handler which fails, even with an {@link Error}, is reported to the error manager and does not
+ * stop the writer. Handlers which flush every record themselves, like the {@link java.util.logging.FileHandler}, still
+ * do so, but on the writer thread.
+ * <p>
+ * The handler is configured through the {@link LogManager} like the handlers of the JDK:
+ * <ul>
+ *     <li>scrabble.Log.AsyncHandler.level: the level of the handler, defaults to ALL</li>
+ *     <li>scrabble.Log.AsyncHandler.targets: comma separated class names of the target handlers, defaults to
+ *     java.util.logging.ConsoleHandler</li>
+ *     <li>scrabble.Log.AsyncHandler.capacity: the number of records the buffer holds, defaults to 8192</li>
+ *     <li>scrabble.Log.AsyncHandler.batchSize: the maximum number of records written per batch, defaults to 256</li>
+ *     <li>scrabble.Log.AsyncHandler.inferCaller: whether the class and method which logged a record are determined
+ *     before the record is put into the buffer, defaults to false</li>
+ * </ul>
+ * The writer thread cannot find the class and method which logged a record on its own stack. Determining them walks
+ * the stack of the logging thread, which costs more than the rest of publishing a record, so it is only done if
+ * inferCaller is set, e.g. for a format which prints the source. The parameters of a record are formatted on the
+ * writer thread, so they should not be changed after logging.
+ */
+public class AsyncHandler extends Handler {
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final LogRecord CLOSE = new LogRecord(Level.OFF, "close");
+    private static final long WRITER_CHECK_MILLIS = 100;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> queue;
+    private final int batchSize;
+    private final boolean inferCaller;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /**
+     * Creates an async handler configured by the properties of the {@link LogManager}.
+     */
+    public AsyncHandler() {
+        String prefix = AsyncHandler.class.getName();
+        LogManager manager = LogManager.getLogManager();
+        setLevel(parseLevel(manager.getProperty(prefix + ".level"), Level.ALL));
+        int capacity = parseInt(manager.getProperty(prefix + ".capacity"), DEFAULT_CAPACITY);
+        batchSize = parseInt(manager.getProperty(prefix + ".batchSize"), DEFAULT_BATCH_SIZE);
+        inferCaller = Boolean.parseBoolean(manager.getProperty(prefix + ".inferCaller"));
+        targets = createTargets(manager.getProperty(prefix + ".targets"));
+        queue = new ArrayBlockingQueue<>(capacity);
+        writer = startWriter();
+    }
+
+    /**
+     * Creates an async handler which writes to the given target handlers.
+     *
+     * @param targets     the handlers receiving the records on the writer thread
+     * @param capacity    the number of records the buffer holds
+     * @param batchSize   the maximum number of records written per batch
+     * @param inferCaller whether the class and method which logged a record are determined on the logging thread
+     * @throws IllegalArgumentException if the capacity or the batch size is not positive
+     */
+    public AsyncHandler(List<Handler> targets, int capacity, int batchSize, boolean inferCaller) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("The capacity and the batch size have to be greater than 0");
+        }
+        this.targets = List.copyOf(targets);
+        this.batchSize = batchSize;
+        this.inferCaller = inferCaller;
+        queue = new ArrayBlockingQueue<>(capacity);
+        writer = startWriter();
+    }
+
+    private Thread startWriter() {
+        Thread thread = new Thread(this::write, "scrabble-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Puts the record into the buffer without waiting, unless the buffer is full and the record is a warning or an
+     * error. If the writer has stopped, such a record is dropped instead of waiting forever.
+     *
+     * @param record the record to log
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (inferCaller) {
+            record.getSourceClassName();
+        }
+        if (queue.offer(record)) {
+            return;
+        }
+        if (record.getLevel().intValue() < Level.WARNING.intValue()) {
+            droppedRecords.increment();
+            return;
+        }
+        try {
+            if (!putWhileWriterRuns(record)) {
+                droppedRecords.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for free space in the buffer as long as the writer thread is alive.
+     *
+     * @return true if the record was put into the buffer, false if the writer has stopped
+     */
+    private boolean putWhileWriterRuns(LogRecord record) throws InterruptedException {
+        while (!queue.offer(record, WRITER_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!writer.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void write() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            for (LogRecord record : batch) {
+                if (record == CLOSE) {
+                    running = false;
+                } else {
+                    publishToTargets(record);
+                }
+            }
+            batch.clear();
+            reportDroppedRecords();
+            flushTargets();
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedRecords.sumThenReset();
+        if (dropped > 0) {
+            LogRecord record = new LogRecord(Level.WARNING, "{0} log records were dropped because the log buffer was full.");
+            record.setParameters(new Object[]{dropped});
+            record.setLoggerName(Logging.class.getCanonicalName());
+            publishToTargets(record);
+        }
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (Throwable e) {
+                reportError("The log record could not be written.", asException(e), ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private void flushTargets() {
+        for (Handler target : targets) {
+            try {
+                target.flush();
+            } catch (Throwable e) {
+                reportError("The log could not be flushed.", asException(e), ErrorManager.FLUSH_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Wraps an {@link Error} of a target handler, because the error manager only accepts exceptions.
+     */
+    private static Exception asException(Throwable throwable) {
+        return throwable instanceof Exception exception ? exception : new Exception(throwable);
+    }
+
+    /**
+     * Flushes the target handlers. Records which are still in the buffer are written and flushed by the writer with
+     * its next batch.
+     */
+    @Override
+    public void flush() {
+        flushTargets();
+    }
+
+    /**
+     * Writes all records in the buffer, stops the writer and closes the target handlers. If the writer has already
+     * stopped, the records left in the buffer are dropped.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (putWhileWriterRuns(CLOSE)) {
+                writer.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Handler target : targets) {
+            try {
+                target.close();
+            } catch (RuntimeException e) {
+                reportError("The log could not be closed.", e, ErrorManager.CLOSE_FAILURE);
+            }
+        }
+    }
+
+    private List<Handler> createTargets(String classNames) {
+        List<Handler> handlers = new ArrayList<>();
+        String names = classNames == null ? "java.util.logging.ConsoleHandler" : classNames;
+        for (String className : names.split(",")) {
+            if (className.isBlank()) {
+                continue;
+            }
+            try {
+                handlers.add(Class.forName(className.trim(), true, ClassLoader.getSystemClassLoader())
+                        .asSubclass(Handler.class).getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                reportError("The log handler \"" + className.trim() + "\" could not be created.", e,
+                        ErrorManager.OPEN_FAILURE);
+            }
+        }
+        return List.copyOf(handlers);
+    }
+
+    private static Level parseLevel(String value, Level defaultLevel) {
+        try {
+            return value == null ? defaultLevel : Level.parse(value.trim());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            int parsed = value == null ? defaultValue : Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
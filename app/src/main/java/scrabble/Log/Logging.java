@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 
 /**
  * The Logging class provides methods for configuring and initializing the Java Logging API.
+ * The configured handlers write the log on a background thread through an {@link AsyncHandler}.
  */
 public class Logging {
 	private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
@@ -0,0 +1,39 @@
+package scrabble.Metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter of the metrics registry. Counting is lock-free and scales with the number of threads, because the count is
+ * kept in a {@link LongAdder}.
+ */
+public final class Counter {
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds the given amount to the counter.
+     *
+     * @param amount the amount to add
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return the sum of all increments
+     */
+    public long get() {
+        return count.sum();
+    }
+}
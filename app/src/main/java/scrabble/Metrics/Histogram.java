@@ -0,0 +1,86 @@
+package scrabble.Metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of the metrics registry, e.g. of latencies in nanoseconds or of allocated bytes. The values are counted
+ * in buckets of powers of two, so a percentile is only known up to a factor of two, but recording a value is lock-free
+ * and takes constant time.
+ */
+public final class Histogram {
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram() {
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long recorded = Math.max(value, 0);
+        buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(Math.max(recorded, 1)));
+        count.increment();
+        sum.add(recorded);
+        max.accumulate(recorded);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return the sum of the values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest value or 0 if no value was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the upper bound of the power of two bucket which contains the given percentile of the recorded values.
+     *
+     * @param percentile the percentile between 0 and 1
+     * @return the upper bound of the bucket or 0 if no value was recorded
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+            total += counts[bucket];
+        }
+        long threshold = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= threshold && counts[bucket] > 0) {
+                return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (bucket + 1);
+            }
+        }
+        return 0;
+    }
+}
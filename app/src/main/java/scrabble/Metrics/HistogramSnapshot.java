@@ -0,0 +1,58 @@
+package scrabble.Metrics;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * The state of a {@link Histogram} at one point in time. The class follows the bean conventions so that JMX can map
+ * it to composite data.
+ */
+public final class HistogramSnapshot {
+    private final long count;
+    private final long sum;
+    private final long max;
+    private final long p50;
+    private final long p99;
+
+    /**
+     * Creates a snapshot with the given values.
+     *
+     * @param count the number of recorded values
+     * @param sum   the sum of the recorded values
+     * @param max   the largest recorded value
+     * @param p50   the upper bound of the median
+     * @param p99   the upper bound of the 99th percentile
+     */
+    @ConstructorParameters({"count", "sum", "max", "p50", "p99"})
+    public HistogramSnapshot(long count, long sum, long max, long p50, long p99) {
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+        this.p50 = p50;
+        this.p99 = p99;
+    }
+
+    static HistogramSnapshot of(Histogram histogram) {
+        return new HistogramSnapshot(histogram.getCount(), histogram.getSum(), histogram.getMax(),
+                histogram.getPercentile(0.5), histogram.getPercentile(0.99));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+}
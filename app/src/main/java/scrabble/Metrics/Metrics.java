@@ -0,0 +1,208 @@
+package scrabble.Metrics;
+
+import scrabble.Log.Logging;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The Metrics class is the process-wide registry of the counters, histograms and gauges of the game engine.
+ * Metrics are enabled with the system property {@code scrabble.metrics=true}. Because {@link #ENABLED} is a constant,
+ * the JIT compiler removes the instrumentation behind an {@code if (Metrics.ENABLED)} check completely when metrics
+ * are disabled. Instrumented classes look their metrics up once and keep them in static fields, recording a value
+ * is lock-free.
+ * <p>
+ * If metrics are enabled, the registry is registered as the MXBean {@value #OBJECT_NAME} and all metrics are logged
+ * every {@code scrabble.metrics.dumpInterval} seconds, 60 by default. An interval of 0 turns the dump off.
+ */
+public final class Metrics {
+    /**
+     * Whether metrics are recorded
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("scrabble.metrics");
+    /**
+     * The JMX object name of the registry
+     */
+    public static final String OBJECT_NAME = "scrabble:type=Metrics";
+    private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+    private static final long DEFAULT_DUMP_INTERVAL_SECONDS = 60;
+
+    private static final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    static {
+        if (ENABLED) {
+            registerMXBean();
+            scheduleDump(Long.getLong("scrabble.metrics.dumpInterval", DEFAULT_DUMP_INTERVAL_SECONDS));
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the counter with the given name and creates it on first use.
+     *
+     * @param name the name of the counter
+     * @return the counter
+     */
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Returns the histogram with the given name and creates it on first use.
+     *
+     * @param name the name of the histogram
+     * @return the histogram
+     */
+    public static Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Registers a gauge whose value is read from the given supplier whenever the metrics are reported. A gauge which
+     * is registered again under the same name replaces the former one. Gauges are only registered if metrics are
+     * enabled, so the supplier is not kept alive otherwise.
+     *
+     * @param name     the name of the gauge
+     * @param supplier the supplier of the current value
+     */
+    public static void gauge(String name, LongSupplier supplier) {
+        if (ENABLED) {
+            gauges.put(name, supplier);
+        }
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far, as reported by the JVM.
+     *
+     * @return the allocated bytes or 0 if the JVM does not measure allocations
+     */
+    public static long allocatedBytes() {
+        if (threads instanceof com.sun.management.ThreadMXBean allocationBean) {
+            return allocationBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the current values of all counters.
+     *
+     * @return the counts ordered by name
+     */
+    public static Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    /**
+     * Returns the current values of all gauges. A gauge whose supplier fails is left out.
+     *
+     * @return the values ordered by name
+     */
+    public static Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, supplier) -> {
+            try {
+                values.put(name, supplier.getAsLong());
+            } catch (RuntimeException e) {
+                logger.log(Level.FINE, "The gauge \"" + name + "\" could not be read.", e);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Returns the current state of all histograms.
+     *
+     * @return the snapshots ordered by name
+     */
+    public static Map<String, HistogramSnapshot> getHistograms() {
+        Map<String, HistogramSnapshot> values = new TreeMap<>();
+        histograms.forEach((name, histogram) -> values.put(name, HistogramSnapshot.of(histogram)));
+        return values;
+    }
+
+    /**
+     * Returns all metrics as text with one metric per line.
+     *
+     * @return the metrics as text
+     */
+    public static String dump() {
+        StringBuilder text = new StringBuilder();
+        getCounters().forEach((name, value) ->
+                text.append(String.format(Locale.ROOT, "counter   %s %d%n", name, value)));
+        getGauges().forEach((name, value) ->
+                text.append(String.format(Locale.ROOT, "gauge     %s %d%n", name, value)));
+        getHistograms().forEach((name, snapshot) ->
+                text.append(String.format(Locale.ROOT, "histogram %s count=%d mean=%.1f p50<%d p99<%d max=%d%n",
+                        name, snapshot.getCount(),
+                        snapshot.getCount() == 0 ? 0.0 : (double) snapshot.getSum() / snapshot.getCount(),
+                        snapshot.getP50(), snapshot.getP99(), snapshot.getMax())));
+        return text.toString();
+    }
+
+    private static void registerMXBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsBean(), new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            logger.log(Level.WARNING, "The metrics could not be registered with JMX.", e);
+        }
+    }
+
+    private static void scheduleDump(long intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scrabble-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> logger.log(Level.INFO, "Metrics:{0}{1}",
+                new Object[]{System.lineSeparator(), dump()}), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * The MXBean of the registry.
+     */
+    private static final class MetricsBean implements MetricsMXBean {
+
+        @Override
+        public Map<String, Long> getCounters() {
+            return Metrics.getCounters();
+        }
+
+        @Override
+        public Map<String, Long> getGauges() {
+            return Metrics.getGauges();
+        }
+
+        @Override
+        public Map<String, HistogramSnapshot> getHistograms() {
+            return Metrics.getHistograms();
+        }
+
+        @Override
+        public String getText() {
+            return dump();
+        }
+    }
+}
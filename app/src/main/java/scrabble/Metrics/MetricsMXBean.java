@@ -0,0 +1,37 @@
+package scrabble.Metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of the metrics registry, registered as {@value Metrics#OBJECT_NAME}.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Returns the current values of all counters.
+     *
+     * @return the counts by name
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Returns the current values of all gauges.
+     *
+     * @return the values by name
+     */
+    Map<String, Long> getGauges();
+
+    /**
+     * Returns the current state of all histograms.
+     *
+     * @return the snapshots by name
+     */
+    Map<String, HistogramSnapshot> getHistograms();
+
+    /**
+     * Returns all metrics in the format of the periodic text dump.
+     *
+     * @return the metrics as text
+     */
+    String getText();
+}
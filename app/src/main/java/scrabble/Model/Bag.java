@@ -3,50 +3,85 @@ package scrabble.Model;
 import scrabble.config.Config;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The bag class represents the bag of remaining stones which are available for distribution
  * The list of available tiles should be adapted to the selected language and is set on bag creation
+ * The tiles are kept in an array, a tile is drawn in constant time by moving the last tile of the array into its place.
+ * A bag created with a seed always hands out the tiles in the same order.
  */
 public class Bag {
-    private final List<Tile> tiles;
-    private final Random random = new Random();
+    private Tile[] tiles;
+    private int size;
+    private final SplittableRandom random;
 
     /**
      * Constructs a Bag object for a specified language.
      * @param language the language of the tile set to use
      */
     public Bag(Config.LANGUAGE language) {
+        this(language, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a Bag object for a specified language which draws the tiles in an order determined by the seed.
+     * @param language the language of the tile set to use
+     * @param seed     the seed of the random generator
+     */
+    public Bag(Config.LANGUAGE language, long seed) {
+        this(language, new SplittableRandom(seed));
+    }
+
+    private Bag(Config.LANGUAGE language, SplittableRandom random) {
+        this.random = random;
         tiles = loadTilesByLanguage(language);
+        size = tiles.length;
     }
 
-    private List<Tile> loadTilesByLanguage(Config.LANGUAGE language) {
+    private Tile[] loadTilesByLanguage(Config.LANGUAGE language) {
         switch (language) {
             case DE -> {
-                return populateTileList(Config.DE_TILES);
+                return populateTiles(Config.DE_TILES);
             }
             case EN -> {
-                return populateTileList(Config.EN_TILES);
+                return populateTiles(Config.EN_TILES);
             }
             default -> throw new IllegalArgumentException("No tile set for language " + language + " found");
         }
     }
 
-    private List<Tile> populateTileList(Map<Tile, Integer> tileDistributionMap) {
-        List<Tile> tiles = new ArrayList<>();
-        for (Map.Entry<Tile, Integer> entry : tileDistributionMap.entrySet()) {
+    /**
+     * Fills the tiles in the order of their letters, so the content of the array does not depend on the iteration
+     * order of the map.
+     */
+    private Tile[] populateTiles(Map<Tile, Integer> tileDistributionMap) {
+        List<Map.Entry<Tile, Integer>> entries = new ArrayList<>(tileDistributionMap.entrySet());
+        entries.sort(Comparator.comparing(entry -> entry.getKey().letter()));
+        int count = 0;
+        for (Map.Entry<Tile, Integer> entry : entries) {
+            count += entry.getValue();
+        }
+        Tile[] tiles = new Tile[count];
+        int index = 0;
+        for (Map.Entry<Tile, Integer> entry : entries) {
             for (int i = 0; i < entry.getValue(); i++) {
-                tiles.add(entry.getKey());
+                tiles[index++] = entry.getKey();
             }
         }
         return tiles;
     }
 
     public void addTile(Tile tile) {
-        tiles.add(tile);
+        if (size == tiles.length) {
+            tiles = Arrays.copyOf(tiles, Math.max(2 * tiles.length, 1));
+        }
+        tiles[size++] = tile;
     }
 
     /**
@@ -59,17 +94,36 @@ public class Bag {
         if (amount <= 0) {
             throw new IllegalArgumentException("Amount has to be greater than 0");
         }
-        List<Tile> returnList = new ArrayList<>();
-        amount = amount < tiles.size() ? amount : tiles.size();
-        for (int i = 0; i < amount; i++) {
-            int index = random.nextInt(tiles.size());
-            returnList.add(tiles.get(index));
-            tiles.remove(index);
-        }
+        List<Tile> returnList = new ArrayList<>(Math.min(amount, size));
+        drawTiles(amount, returnList);
         return returnList;
     }
 
+    /**
+     * Draws up to the given amount of tiles from the bag and adds them to the given collection. Unlike
+     * {@link #getNTiles(int)} nothing is allocated and an amount of zero or less draws no tile.
+     *
+     * @param amount the number of tiles to draw
+     * @param target the collection receiving the tiles
+     * @return the number of drawn tiles, which is less than the amount if the bag runs empty
+     */
+    public int drawTiles(int amount, Collection<Tile> target) {
+        int drawn = Math.max(Math.min(amount, size), 0);
+        for (int i = 0; i < drawn; i++) {
+            target.add(drawTile());
+        }
+        return drawn;
+    }
+
+    private Tile drawTile() {
+        int index = random.nextInt(size);
+        Tile tile = tiles[index];
+        tiles[index] = tiles[--size];
+        tiles[size] = null;
+        return tile;
+    }
+
     public int getRemainingTiles() {
-        return tiles.size();
+        return size;
     }
 }
@@ -1,54 +1,76 @@
 package scrabble.Model;
 
 
-import scrabble.Log.Logging;
 import scrabble.config.Config;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+
+import java.util.Arrays;
 
 /**
  * The board class is a simple data class for representing a scrabble board.
- * It should contain a 15x15 2 dimensional array for holding Field objects
- * There should be methods for adding and removing Field objects to the array
+ * The letters and values of the tiles are stored in primitive arrays indexed by {@code row * BOARD_COL_SIZE + col},
+ * the occupied squares are tracked in a bitset and the effects of the squares are stored in a static table.
+ * {@link Field} objects are only lightweight views on a square of the board, which keeps copies and scans cheap.
  */
 public class Board {
 
-    private final Field[][] board;
-    private static Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+    /**
+     * The number of squares on the board
+     */
+    public static final int SIZE = Config.BOARD_ROW_SIZE * Config.BOARD_COL_SIZE;
+    private static final Config.EFFECT[] EFFECTS = createEffects();
+
+    private final char[] letters;
+    private final byte[] values;
+    private final long[] occupied;
+    private Field[][] fields;
 
 
     /**
      * Constructor for the Board. Creates a 15x15 grid of empty tiles.
      */
     public Board() {
-        board = new Field[Config.BOARD_ROW_SIZE][Config.BOARD_COL_SIZE];
-        populateBoard();
+        letters = new char[SIZE];
+        values = new byte[SIZE];
+        occupied = new long[(SIZE + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * Copy constructor for the Board. Creates a board with the same tiles as the given board.
+     *
+     * @param board the board to copy
+     */
+    public Board(Board board) {
+        letters = board.letters.clone();
+        values = board.values.clone();
+        occupied = board.occupied.clone();
     }
 
-    private void populateBoard() {
+    private static Config.EFFECT[] createEffects() {
+        Config.EFFECT[] effects = new Config.EFFECT[SIZE];
         for (int y = 0; y < Config.BOARD_ROW_SIZE; y++) {
             for (int x = 0; x < Config.BOARD_COL_SIZE; x++) {
                 if (isDoubleWord(x, y)) {
-                    board[y][x] = new Field(Config.EFFECT.DOUBLE_WORD);
+                    effects[index(y, x)] = Config.EFFECT.DOUBLE_WORD;
                 } else if (isTripleWord(x, y)) {
-                    board[y][x] = new Field(Config.EFFECT.TRIPLE_WORD);
+                    effects[index(y, x)] = Config.EFFECT.TRIPLE_WORD;
                 } else if (isDoubleLetter(x, y)) {
-                    board[y][x] = new Field(Config.EFFECT.DOUBLE_LETTER);
+                    effects[index(y, x)] = Config.EFFECT.DOUBLE_LETTER;
                 } else if (isTripleLetter(x, y)) {
-                    board[y][x] = new Field(Config.EFFECT.TRIPLE_LETTER);
+                    effects[index(y, x)] = Config.EFFECT.TRIPLE_LETTER;
                 } else {
-                    board[y][x] = new Field(Config.EFFECT.NO_EFFECT);
+                    effects[index(y, x)] = Config.EFFECT.NO_EFFECT;
                 }
             }
         }
+        return effects;
     }
 
-    private boolean isTripleLetter(int x, int y) {
+    private static boolean isTripleLetter(int x, int y) {
         return (x == 1 || x == 13) && (y == 5 || y == 9) ||
                 (x == 5 || x == 9) && (y == 1 || y == 5 || y == 9 || y == 13);
     }
 
-    private boolean isDoubleLetter(int x, int y) {
+    private static boolean isDoubleLetter(int x, int y) {
         return (x == 0 || x == 14) && (y == 3 || y == 11) ||
                 (x == 2 || x == 12) && (y == 6 || y == 8) ||
                 (x == 3 || x == 11) && (y == 0 || y == 7 || y == 14) ||
@@ -56,12 +78,12 @@ public class Board {
                 x == 7 && (y == 3 || y == 11);
     }
 
-    private boolean isTripleWord(int x, int y) {
+    private static boolean isTripleWord(int x, int y) {
         return ((x == 0 || x == 14) && (y == 0 || y == 7 || y == 14) ||
                 x == 7 && (y == 0 || y == 14));
     }
 
-    private boolean isDoubleWord(int x, int y) {
+    private static boolean isDoubleWord(int x, int y) {
         if ((x == 1 || x == 13) && (y == 1 || y == 13) ||
                 (x == 2 || x == 12) && (y == 2 || y == 12) ||
                 (x == 3 || x == 11) && (y == 3 || y == 11) ||
@@ -71,6 +93,25 @@ public class Board {
         return x == 7 && y == 7;
     }
 
+    /**
+     * Returns the index of the square with the given coordinates in the arrays of the board.
+     *
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return the index of the square
+     */
+    public static int index(int row, int col) {
+        return row * Config.BOARD_COL_SIZE + col;
+    }
+
+    public static int row(int index) {
+        return index / Config.BOARD_COL_SIZE;
+    }
+
+    public static int column(int index) {
+        return index % Config.BOARD_COL_SIZE;
+    }
+
     /**
      * Sets the given tile at the specified row and column of the game board.
      *
@@ -82,44 +123,177 @@ public class Board {
      */
     public void setTile(Tile tile, int row, int col) {
         try {
-            getField(row, col).setOccupant(tile);
+            checkCoordinates(row, col);
+            placeTile(tile, index(row, col));
         } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
             System.out.println(e.getMessage());
         }
     }
 
+    void placeTile(Tile tile, int index) {
+        if (isOccupied(index)) {
+            throw new IllegalArgumentException("Field is already occupied");
+        }
+        letters[index] = tile.letter();
+        values[index] = (byte) tile.value();
+        occupied[index >>> 6] |= 1L << index;
+    }
+
+    void removeTile(int index) {
+        letters[index] = 0;
+        values[index] = 0;
+        occupied[index >>> 6] &= ~(1L << index);
+    }
+
     /**
      * Gets the Field object at the specified row and column from the board.
      *
      * @param row the row to get the Field from
      * @param col the column to get the Field from
-     * @return the Field object at the specified row and column, or null if no Field is present
-     * @throws IllegalArgumentException if the specified field is already occupied or the coordinates are invalid
+     * @return the Field object at the specified row and column
+     * @throws IllegalArgumentException if the coordinates are invalid
      */
     public Field getField(int row, int col) throws IllegalArgumentException {
-        try {
-            if (isCoordinateValid(row, col)){
-                return board[row][col];
-            }else{
-                throw new IllegalArgumentException("Invalid Coordinates: (" + row + ", " + col + ")");
-            }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, "Invalid Coordinates: (" + row + ", " + col + ")", e);
-            throw e;
-        }
+        checkCoordinates(row, col);
+        return getBoard()[row][col];
     }
 
     /**
-     * Gets the entire board.
+     * Gets the entire board as a grid of fields. The fields are views on the board which are created on first use.
      *
      * @return the board
      */
     public Field[][] getBoard() {
-        return board;
+        if (fields == null) {
+            Field[][] views = new Field[Config.BOARD_ROW_SIZE][Config.BOARD_COL_SIZE];
+            for (int index = 0; index < SIZE; index++) {
+                views[row(index)][column(index)] = new Field(this, index);
+            }
+            fields = views;
+        }
+        return fields;
+    }
+
+    /**
+     * Checks whether the square at the given coordinates is occupied.
+     *
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return true if a tile lies on the square
+     * @throws IllegalArgumentException if the coordinates are invalid
+     */
+    public boolean isOccupied(int row, int col) {
+        checkCoordinates(row, col);
+        return isOccupied(index(row, col));
+    }
+
+    /**
+     * Checks whether the square with the given index is occupied.
+     *
+     * @param index the index of the square
+     * @return true if a tile lies on the square
+     */
+    public boolean isOccupied(int index) {
+        return (occupied[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the letter of the tile on the square with the given index.
+     *
+     * @param index the index of the square
+     * @return the letter of the tile or 0 if the square is empty
+     */
+    public char getLetter(int index) {
+        return letters[index];
+    }
+
+    /**
+     * Returns the value of the tile on the square with the given index.
+     *
+     * @param index the index of the square
+     * @return the value of the tile or 0 if the square is empty
+     */
+    public int getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the effect of the square with the given index.
+     *
+     * @param index the index of the square
+     * @return the effect of the square
+     */
+    public static Config.EFFECT getEffect(int index) {
+        return EFFECTS[index];
+    }
+
+    /**
+     * Returns the tile on the square with the given index.
+     *
+     * @param index the index of the square
+     * @return the tile or null if the square is empty
+     */
+    public Tile getTile(int index) {
+        return isOccupied(index) ? new Tile(letters[index], values[index]) : null;
+    }
+
+    /**
+     * Returns the index of the first square at or after the given index which is occupied on this board but empty
+     * on the other board. The squares are compared 64 at a time on the occupancy bitsets.
+     *
+     * @param other     the board to compare with
+     * @param fromIndex the index to start from
+     * @return the index of the square or -1 if there is no such square
+     */
+    public int nextAddedSquare(Board other, int fromIndex) {
+        if (fromIndex >= SIZE) {
+            return -1;
+        }
+        int word = fromIndex >>> 6;
+        long added = occupied[word] & ~other.occupied[word] & (-1L << fromIndex);
+        while (added == 0) {
+            if (++word == occupied.length) {
+                return -1;
+            }
+            added = occupied[word] & ~other.occupied[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(added);
+    }
+
+    /**
+     * Returns the number of occupied squares.
+     *
+     * @return the number of tiles on the board
+     */
+    public int getTileCount() {
+        int count = 0;
+        for (long bits : occupied) {
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    private void checkCoordinates(int row, int col) {
+        if (!isCoordinateValid(row, col)) {
+            throw new IllegalArgumentException("Invalid Coordinates: (" + row + ", " + col + ")");
+        }
     }
 
     private boolean isCoordinateValid(int row, int col) {
-        return row >= 0 && row < board.length && col >= 0 && col < board[row].length;
+        return row >= 0 && row < Config.BOARD_ROW_SIZE && col >= 0 && col < Config.BOARD_COL_SIZE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Board board)) return false;
+        return Arrays.equals(occupied, board.occupied) && Arrays.equals(letters, board.letters)
+                && Arrays.equals(values, board.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(occupied) + Arrays.hashCode(letters);
     }
 
 }
@@ -0,0 +1,17 @@
+package scrabble.Model;
+
+/**
+ * This class represents a player whose turns are played by the computer through {@link scrabble.Game#playComputerTurn()}.
+ */
+public class ComputerPlayer extends Player {
+
+    /**
+     * Creates a new computer player with the given name and an empty hand.
+     *
+     * @param playerName the name of the player, which must match the regular expression
+     * @throws IllegalArgumentException if the player name does not match the regular expression
+     */
+    public ComputerPlayer(String playerName) {
+        super(playerName);
+    }
+}
@@ -3,23 +3,26 @@ package scrabble.Model;
 import scrabble.config.Config;
 
 /**
- * This class represents a single Field on a scrabble board and is responsible for storing a possible occupant as well as the effect to be applied to its occupant
+ * This class represents a single Field on a scrabble board and is responsible for storing a possible occupant as well as the effect to be applied to its occupant.
+ * A field is a view on a square of a {@link Board}, the occupant is stored in the arrays of the board.
  */
 public class Field {
-    private Tile occupant;
-    private final Config.EFFECT effect;
+    private final Board board;
+    private final int index;
 
     /**
      * Constructor for the field class
      *
-     * @param effect the effect to be applied to the field's occupant
+     * @param board the board the field belongs to
+     * @param index the index of the square on the board
      */
-    public Field(Config.EFFECT effect) {
-        this.effect = effect;
+    Field(Board board, int index) {
+        this.board = board;
+        this.index = index;
     }
 
     public Tile getOccupant() {
-        return occupant;
+        return board.getTile(index);
     }
 
     /**
@@ -29,16 +32,11 @@ public class Field {
      * @throws IllegalArgumentException if the field is already occupied
      */
     public void setOccupant(Tile occupant) throws IllegalArgumentException {
-        if (this.occupant == null){
-            this.occupant = occupant;
-        }else{
-            throw new IllegalArgumentException("Field is already occupied");
-        }
-
+        board.placeTile(occupant, index);
     }
 
     public Config.EFFECT getEffect() {
-        return effect;
+        return Board.getEffect(index);
     }
 
     /**
@@ -46,14 +44,14 @@ public class Field {
      * @return Boolean
      */
     public boolean isOccupied() {
-        return occupant != null;
+        return board.isOccupied(index);
     }
 
     @Override
     public String toString() {
         return "Field{" +
-                "occupant=" + occupant +
-                ", effect=" + effect +
+                "occupant=" + getOccupant() +
+                ", effect=" + getEffect() +
                 '}';
     }
-}
\ No newline at end of file
+}
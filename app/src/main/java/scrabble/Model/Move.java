@@ -0,0 +1,198 @@
+package scrabble.Model;
+
+import scrabble.config.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class represents the move of a player, which consists of the tiles the player places on the board.
+ * A move only knows the placed tiles, so it can be validated against the existing board and applied to it in
+ * O(number of placed tiles) without copying or scanning the whole board.
+ */
+public class Move {
+    private static final int CENTER_ROW = Config.BOARD_ROW_SIZE / 2;
+    private static final int CENTER_COL = Config.BOARD_COL_SIZE / 2;
+
+    private final List<PlacedTile> placedTiles;
+
+    /**
+     * Creates a move from the given placed tiles.
+     *
+     * @param placedTiles the tiles the player places on the board
+     */
+    public Move(List<PlacedTile> placedTiles) {
+        List<PlacedTile> sortedTiles = new ArrayList<>(placedTiles);
+        sortedTiles.sort(Comparator.comparingInt(PlacedTile::row).thenComparingInt(PlacedTile::col));
+        this.placedTiles = Collections.unmodifiableList(sortedTiles);
+    }
+
+    /**
+     * Creates the move which leads from the existing board to the new board.
+     *
+     * @param existingBoard the board before the move
+     * @param newBoard      the board after the move
+     * @return the move containing every tile which lies on the new board but not on the existing board
+     */
+    public static Move fromBoards(Board existingBoard, Board newBoard) {
+        List<PlacedTile> placedTiles = new ArrayList<>();
+        for (int index = newBoard.nextAddedSquare(existingBoard, 0); index >= 0;
+             index = newBoard.nextAddedSquare(existingBoard, index + 1)) {
+            placedTiles.add(new PlacedTile(Board.row(index), Board.column(index), newBoard.getTile(index)));
+        }
+        return new Move(placedTiles);
+    }
+
+    /**
+     * Returns the placed tiles ordered by row and column.
+     *
+     * @return the placed tiles
+     */
+    public List<PlacedTile> getPlacedTiles() {
+        return placedTiles;
+    }
+
+    public boolean isEmpty() {
+        return placedTiles.isEmpty();
+    }
+
+    /**
+     * Returns the direction of the move. A single tile is placed to the right if it has a horizontal neighbour on
+     * the given board and downwards otherwise.
+     *
+     * @param board the board the move is placed on
+     * @return the direction of the move
+     */
+    public Config.Direction getDirection(Board board) {
+        PlacedTile first = placedTiles.get(0);
+        if (placedTiles.size() > 1) {
+            return first.row() == placedTiles.get(1).row() ? Config.Direction.RIGHT : Config.Direction.DOWN;
+        }
+        boolean hasLeftNeighbour = first.col() > 0 && board.isOccupied(first.row(), first.col() - 1);
+        boolean hasRightNeighbour = first.col() < Config.BOARD_COL_SIZE - 1 && board.isOccupied(first.row(), first.col() + 1);
+        return hasLeftNeighbour || hasRightNeighbour ? Config.Direction.RIGHT : Config.Direction.DOWN;
+    }
+
+    /**
+     * Checks whether the move can be placed on the given board. All tiles have to lie on empty squares in a single
+     * row or column, the squares between them have to be covered by existing tiles, and the move has to touch an
+     * existing tile. The first move of a game has to consist of at least two tiles and cover the center square.
+     *
+     * @param board the board to check the move against
+     * @return true if the move is valid on the board
+     */
+    public boolean isValidOn(Board board) {
+        if (placedTiles.isEmpty()) {
+            return false;
+        }
+        PlacedTile first = placedTiles.get(0);
+        PlacedTile last = placedTiles.get(placedTiles.size() - 1);
+        boolean horizontal = first.row() == last.row();
+        if (!horizontal && first.col() != last.col()) {
+            return false;
+        }
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            if (!isOnBoard(placedTile.row(), placedTile.col()) || board.isOccupied(placedTile.row(), placedTile.col())
+                    || (horizontal ? placedTile.row() != first.row() : placedTile.col() != first.col())) {
+                return false;
+            }
+        }
+        int placedIndex = 0;
+        int start = horizontal ? first.col() : first.row();
+        int end = horizontal ? last.col() : last.row();
+        boolean coversExistingTile = false;
+        for (int position = start; position <= end; position++) {
+            int row = horizontal ? first.row() : position;
+            int col = horizontal ? position : first.col();
+            if (placedIndex < placedTiles.size() && placedTiles.get(placedIndex).row() == row
+                    && placedTiles.get(placedIndex).col() == col) {
+                placedIndex++;
+            } else if (board.isOccupied(row, col)) {
+                coversExistingTile = true;
+            } else {
+                return false;
+            }
+        }
+        if (placedIndex != placedTiles.size()) {
+            return false;
+        }
+        if (board.getTileCount() == 0) {
+            return placedTiles.size() > 1 && coversCenter();
+        }
+        return coversExistingTile || touchesExistingTile(board);
+    }
+
+    private boolean coversCenter() {
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            if (placedTile.row() == CENTER_ROW && placedTile.col() == CENTER_COL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean touchesExistingTile(Board board) {
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            int row = placedTile.row();
+            int col = placedTile.col();
+            if ((row > 0 && board.isOccupied(row - 1, col)) || (row < Config.BOARD_ROW_SIZE - 1 && board.isOccupied(row + 1, col))
+                    || (col > 0 && board.isOccupied(row, col - 1)) || (col < Config.BOARD_COL_SIZE - 1 && board.isOccupied(row, col + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isOnBoard(int row, int col) {
+        return row >= 0 && row < Config.BOARD_ROW_SIZE && col >= 0 && col < Config.BOARD_COL_SIZE;
+    }
+
+    /**
+     * Places the tiles of the move on the given board.
+     *
+     * @param board the board to place the tiles on
+     * @throws IllegalArgumentException if a square of the move is already occupied
+     */
+    public void applyTo(Board board) {
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            board.placeTile(placedTile.tile(), Board.index(placedTile.row(), placedTile.col()));
+        }
+    }
+
+    /**
+     * Removes the tiles of the move from the given board again.
+     *
+     * @param board the board the move was applied to
+     */
+    public void undo(Board board) {
+        for (int i = 0; i < placedTiles.size(); i++) {
+            PlacedTile placedTile = placedTiles.get(i);
+            board.removeTile(Board.index(placedTile.row(), placedTile.col()));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Move move)) return false;
+        return placedTiles.equals(move.placedTiles);
+    }
+
+    @Override
+    public int hashCode() {
+        return placedTiles.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Move{" +
+                "placedTiles=" + placedTiles +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+package scrabble.Model;
+
+/**
+ * This record represents a tile which a player places on a square of the board during a move.
+ *
+ * @param row  the row of the square
+ * @param col  the column of the square
+ * @param tile the placed tile
+ */
+public record PlacedTile(int row, int col, Tile tile) {
+}
@@ -5,8 +5,6 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
 import scrabble.Log.Logging;
 import scrabble.config.Config;
 
@@ -29,7 +27,7 @@ public class Player {
     /**
      * The player's score in points.
      */
-    private final IntegerProperty points;
+    private int points;
 
     /**
      * Creates a new player with the given name and an empty hand.
@@ -40,7 +38,7 @@ public class Player {
     public Player(String playerName) {
         if (playerName.matches(Config.REGEX_USERNAME)) {
             this.playerName = playerName;
-            points = new SimpleIntegerProperty(0);
+            points = 0;
             tileList = new ArrayList<>();
         } else {
             throw new IllegalArgumentException("Username has an invalid format. The username must be between 4 and 15 characters");
@@ -70,7 +68,7 @@ public class Player {
      *
      * @return the player's score in points
      */
-    public IntegerProperty getPoints() {
+    public int getPoints() {
         return points;
     }
 
@@ -80,7 +78,7 @@ public class Player {
      * @param points the value to be added to the player's score
      */
     public void addPoints(int points) {
-        this.points.set(getPoints().get()+points);
+        this.points += points;
     }
 
     /**
@@ -93,7 +91,7 @@ public class Player {
         try {
             if (!tileList.remove(tile)) {
                 throw new IllegalArgumentException("User does not contain the tile in the tile list");
-            }else {
+            } else if (logger.isLoggable(Level.FINE)) {
                 logger.log(Level.FINE, "Player {0} dropped tile {1} from their tile list.", new Object[]{playerName, tile});
             }
         } catch (Exception e) {
@@ -108,7 +106,9 @@ public class Player {
      * @param tile to add to the player's hand
      */
     public void addTileToTileList(Tile tile) {
-        logger.log(Level.FINE, "Player {0} added tile {1} to their tile list.", new Object[]{playerName, tile});
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "Player {0} added tile {1} to their tile list.", new Object[]{playerName, tile});
+        }
         tileList.add(tile);
     }
 
@@ -0,0 +1,139 @@
+package scrabble.Server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A Connection is the state of one client of the {@link GameServer}. Reading, writing and closing the channel is done
+ * by the selector thread of the server only, lines can be sent from any thread and are written by the selector thread.
+ * <p>
+ * The game a connection joins is set by the selector thread, so that all further commands of the client are sent to
+ * the actor of that game in the order they were received. If the actor rejects the player, it resets the game, so the
+ * game is volatile. The player of the connection is set and read by the actor of the game.
+ */
+final class Connection {
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    private final GameServer server;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final byte[] line = new byte[Protocol.MAX_LINE_LENGTH];
+    private int lineLength;
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean writeRequested = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile HostedGame game;
+    private String playerName;
+
+    Connection(GameServer server, SocketChannel channel, SelectionKey key) {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+    }
+
+    /**
+     * Sends a line to the client. Lines sent after the connection was closed are dropped.
+     *
+     * @param text the line without the line feed
+     */
+    void send(String text) {
+        if (closed) {
+            return;
+        }
+        outbound.add(ByteBuffer.wrap((text + "\n").getBytes(Protocol.CHARSET)));
+        if (writeRequested.compareAndSet(false, true)) {
+            server.requestWrite(this);
+        }
+    }
+
+    /**
+     * Reads the available bytes from the channel and passes every complete line to the given consumer. Called by the
+     * selector thread when the channel is readable.
+     *
+     * @param lines the consumer of the lines
+     * @return false if the client closed the connection or sent a line which is too long
+     * @throws IOException if the channel could not be read
+     */
+    boolean read(Consumer<String> lines) throws IOException {
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            return false;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining()) {
+            byte next = readBuffer.get();
+            if (next == '\n') {
+                int length = lineLength > 0 && line[lineLength - 1] == '\r' ? lineLength - 1 : lineLength;
+                lineLength = 0;
+                lines.accept(new String(line, 0, length, Protocol.CHARSET));
+            } else if (lineLength == line.length) {
+                return false;
+            } else {
+                line[lineLength++] = next;
+            }
+        }
+        readBuffer.clear();
+        return true;
+    }
+
+    /**
+     * Writes the queued lines to the channel until all are written or the socket buffer is full. In the latter case
+     * the selector thread is asked to call this method again when the channel becomes writable.
+     *
+     * @throws IOException if the channel could not be written
+     */
+    void flush() throws IOException {
+        writeRequested.set(false);
+        ByteBuffer buffer;
+        while ((buffer = outbound.peek()) != null) {
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+            outbound.poll();
+        }
+        key.interestOps(SelectionKey.OP_READ);
+    }
+
+    /**
+     * Closes the channel. Called by the selector thread.
+     */
+    void close() {
+        closed = true;
+        outbound.clear();
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // the connection is given up anyway
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    HostedGame getGame() {
+        return game;
+    }
+
+    void setGame(HostedGame game) {
+        this.game = game;
+    }
+
+    String getPlayerName() {
+        return playerName;
+    }
+
+    void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+}
@@ -0,0 +1,372 @@
+package scrabble.Server;
+
+import scrabble.GameActor;
+import scrabble.GameSnapshot;
+import scrabble.Log.Logging;
+import scrabble.Metrics.Metrics;
+import scrabble.WordValidatorRegistry;
+import scrabble.config.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The GameServer class hosts many games at once for clients which connect over TCP and talk the line protocol
+ * described in {@link Protocol}. A single selector thread accepts the connections and reads and writes all sockets
+ * with non-blocking I/O. Every game is owned by a {@link GameActor}, whose commands are executed one after the other
+ * on a thread pool shared by all games. So every game has a single writer and needs no locks, a game waiting for
+ * commands takes no thread, and the number of threads does not grow with the number of games.
+ * <p>
+ * Usage: {@code GameServer [port] [threads]}, for example {@code GameServer 7070 8}.
+ */
+public class GameServer implements AutoCloseable {
+    /**
+     * The port the server listens on if no port is given
+     */
+    public static final int DEFAULT_PORT = 7070;
+    private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService executor;
+    private final ConcurrentMap<Integer, HostedGame> games = new ConcurrentHashMap<>();
+    private final AtomicInteger nextGameId = new AtomicInteger(1);
+    private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final Set<Config.LANGUAGE> retainedLanguages = ConcurrentHashMap.newKeySet();
+    private final Thread selectorThread;
+    private volatile boolean running = true;
+
+    /**
+     * Creates a server which listens on the given port.
+     *
+     * @param port            the port, 0 for any free port
+     * @param numberOfThreads the number of threads which execute the commands of all games
+     * @throws IOException if the server socket could not be opened
+     */
+    public GameServer(int port, int numberOfThreads) throws IOException {
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException("The number of threads has to be greater than 0");
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "scrabble-game-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Metrics.gauge("server.games", games::size);
+        Metrics.gauge("server.bag.remainingTiles", this::getRemainingTiles);
+        selectorThread = new Thread(this::run, "scrabble-server");
+    }
+
+    /**
+     * Starts the server with the given command line arguments and runs it until the process is stopped.
+     *
+     * @param args the port and the number of threads
+     * @throws IOException if the server socket could not be opened
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int numberOfThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Logging.initialize();
+        GameServer server = new GameServer(port, numberOfThreads);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+    }
+
+    /**
+     * Starts the selector thread of the server.
+     */
+    public void start() {
+        selectorThread.start();
+        logger.log(Level.INFO, "Game server listening on port {0}.", getPort());
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the number of games which are currently hosted.
+     *
+     * @return the number of running games
+     */
+    public int getNumberOfGames() {
+        return games.size();
+    }
+
+    /**
+     * Returns the number of tiles left in the bags of all hosted games. The count is read from the snapshots of the
+     * games, so it can be read from any thread.
+     *
+     * @return the sum of the remaining tiles
+     */
+    public long getRemainingTiles() {
+        long remainingTiles = 0;
+        for (HostedGame game : games.values()) {
+            remainingTiles += game.snapshot().getRemainingTiles();
+        }
+        return remainingTiles;
+    }
+
+    /**
+     * Returns the state of a hosted game without waiting for the commands of the game which are still queued.
+     *
+     * @param id the id of the game
+     * @return the latest snapshot of the game or null if no game with this id is running
+     */
+    public GameSnapshot getSnapshot(int id) {
+        HostedGame game = games.get(id);
+        return game != null ? game.snapshot() : null;
+    }
+
+    /**
+     * Stops the server, closes all connections and releases the word validators held by the server.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdown();
+        for (Config.LANGUAGE language : retainedLanguages) {
+            WordValidatorRegistry.getInstance().release(language);
+        }
+        retainedLanguages.clear();
+        logger.log(Level.INFO, "Game server stopped.");
+    }
+
+    /**
+     * Keeps the word validator of the language loaded as long as the server runs, so that it is not loaded again
+     * whenever the last game of the language ends.
+     *
+     * @param language the language of a game
+     */
+    void retainLanguage(Config.LANGUAGE language) {
+        if (retainedLanguages.add(language)) {
+            try {
+                WordValidatorRegistry.getInstance().acquire(language);
+            } catch (IOException e) {
+                retainedLanguages.remove(language);
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    void removeGame(int id) {
+        games.remove(id);
+    }
+
+    /**
+     * Asks the selector thread to write the queued lines of the connection.
+     *
+     * @param connection the connection with queued lines
+     */
+    void requestWrite(Connection connection) {
+        pendingWrites.add(connection);
+        selector.wakeup();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Connection connection;
+                while ((connection = pendingWrites.poll()) != null) {
+                    flush(connection);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection client = (Connection) key.attachment();
+                        if (key.isWritable()) {
+                            flush(client);
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            read(client);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "The game server stopped unexpectedly.", e);
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(this, channel, key));
+    }
+
+    private void read(Connection connection) {
+        try {
+            if (!connection.read(line -> dispatch(connection, line))) {
+                disconnect(connection);
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void flush(Connection connection) {
+        if (connection.isClosed()) {
+            return;
+        }
+        try {
+            connection.flush();
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void disconnect(Connection connection) {
+        connection.close();
+        HostedGame game = connection.getGame();
+        if (game != null) {
+            game.leave(connection);
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "The server socket could not be closed.", e);
+        }
+    }
+
+    /**
+     * Passes a line of a client to the actor of its game. The commands which create or join a game are handled here,
+     * because they decide to which actor the following commands of the client are sent.
+     */
+    private void dispatch(Connection connection, String line) {
+        String[] command = Protocol.split(line);
+        if (command[0].isEmpty()) {
+            return;
+        }
+        HostedGame game = connection.getGame();
+        if (game != null) {
+            game.handle(connection, command);
+            return;
+        }
+        switch (command[0]) {
+            case Protocol.CREATE -> create(connection, command);
+            case Protocol.JOIN -> join(connection, command);
+            default -> connection.send(Protocol.ERROR + " not joined");
+        }
+    }
+
+    private void create(Connection connection, String[] command) {
+        Config.LANGUAGE language;
+        try {
+            language = Config.LANGUAGE.valueOf(command.length > 1 ? command[1].toUpperCase(Locale.ROOT) : "");
+        } catch (IllegalArgumentException e) {
+            connection.send(Protocol.ERROR + " unknown language");
+            return;
+        }
+        List<String> playerNames = Arrays.asList(command).subList(2, command.length);
+        String invalidName = findInvalidPlayerName(playerNames);
+        if (invalidName != null) {
+            connection.send(Protocol.ERROR + " invalid or duplicate player " + invalidName);
+            return;
+        }
+        int id = nextGameId.getAndIncrement();
+        HostedGame game = new HostedGame(id, this, executor);
+        games.put(id, game);
+        game.setUp(language, playerNames, connection);
+    }
+
+    /**
+     * Checks the player names of a new game like the setup window does: every name has to match
+     * {@link Config#REGEX_USERNAME} and no name may be used twice, because a client joins a game by the name of its
+     * player.
+     *
+     * @param playerNames the names of the players
+     * @return the first name which is invalid or used twice, or null if all names are valid
+     */
+    private static String findInvalidPlayerName(List<String> playerNames) {
+        Set<String> names = new HashSet<>();
+        for (String playerName : playerNames) {
+            if (!playerName.matches(Config.REGEX_USERNAME) || !names.add(playerName)) {
+                return playerName;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Binds a client to the game with the id of the command and asks the actor of the game to join the client as the
+     * player. If the actor rejects the player, it unbinds the client again, so that the client can join once more.
+     *
+     * @param connection the client
+     * @param command    the words of the command
+     */
+    void join(Connection connection, String[] command) {
+        HostedGame game;
+        try {
+            game = command.length == 3 ? games.get(Integer.parseInt(command[1])) : null;
+        } catch (NumberFormatException e) {
+            game = null;
+        }
+        if (game == null) {
+            connection.send(Protocol.ERROR + " unknown game");
+            return;
+        }
+        connection.setGame(game);
+        game.join(connection, command[2]);
+    }
+}
@@ -0,0 +1,267 @@
+package scrabble.Server;
+
+import scrabble.Engine.ScoredMove;
+import scrabble.Game;
+import scrabble.GameActor;
+import scrabble.GameListener;
+import scrabble.GameSnapshot;
+import scrabble.Log.Logging;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
+import scrabble.Model.Player;
+import scrabble.Model.Tile;
+import scrabble.config.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A HostedGame is a {@link Game} of the {@link GameServer} together with the clients which have joined it. The game is
+ * owned by a {@link GameActor}: every command of a client is sent to the mailbox of the actor and executed on the
+ * shared executor of the server, one after the other, so the game and the list of joined clients need no
+ * synchronization. The answers to the commands which only read the game are built from the snapshot of the actor. The
+ * events of the game are sent to all joined clients.
+ */
+final class HostedGame implements GameListener {
+    private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+
+    private final int id;
+    private final GameServer server;
+    private final GameActor actor;
+    private final List<Connection> connections = new ArrayList<>();
+    private List<String> playerNames = List.of();
+
+    HostedGame(int id, GameServer server, Executor executor) {
+        this.id = id;
+        this.server = server;
+        this.actor = new GameActor(new Game(), executor);
+    }
+
+    /**
+     * Returns the state of the game after the last executed command.
+     *
+     * @return the latest snapshot of the game
+     */
+    GameSnapshot snapshot() {
+        return actor.snapshot();
+    }
+
+    /**
+     * Sets up the game with the given players and answers the creating client.
+     *
+     * @param language    the language of the game
+     * @param playerNames the names of the players
+     * @param creator     the client which created the game
+     */
+    void setUp(Config.LANGUAGE language, List<String> playerNames, Connection creator) {
+        send(game -> {
+            try {
+                List<Player> players = new ArrayList<>(playerNames.size());
+                for (String playerName : playerNames) {
+                    players.add(new Player(playerName));
+                }
+                server.retainLanguage(language);
+                game.setUpGame(language, players);
+            } catch (RuntimeException e) {
+                server.removeGame(id);
+                creator.send(Protocol.ERROR + " " + e.getMessage());
+                return;
+            }
+            this.playerNames = List.copyOf(playerNames);
+            game.addGameListener(this);
+            creator.send(Protocol.GAME + " " + id);
+            logger.log(Level.INFO, "Game {0} created in {1}.", new Object[]{id, language});
+        });
+    }
+
+    /**
+     * Joins a client to the game as the player with the given name.
+     *
+     * @param connection the client
+     * @param playerName the name of the player
+     */
+    void join(Connection connection, String playerName) {
+        send(game -> {
+            if (!playerNames.contains(playerName)) {
+                rejectJoin(connection, "unknown player " + playerName);
+                return;
+            }
+            for (int i = 0; i < connections.size(); i++) {
+                if (connections.get(i).getPlayerName().equals(playerName)) {
+                    rejectJoin(connection, "player " + playerName + " already joined");
+                    return;
+                }
+            }
+            connection.setPlayerName(playerName);
+            connections.add(connection);
+            connection.send(Protocol.JOINED + " " + id + " " + playerName);
+        });
+    }
+
+    /**
+     * Unbinds a client whose join was rejected, so that its next commands are not sent to this game and it can join
+     * again.
+     */
+    private static void rejectJoin(Connection connection, String reason) {
+        connection.setGame(null);
+        connection.send(Protocol.ERROR + " " + reason);
+    }
+
+    /**
+     * Removes a client which disconnected. The game is aborted when its last joined client is gone, like a game whose
+     * window was closed. A client which never joined as a player does not abort the game.
+     *
+     * @param connection the client
+     */
+    void leave(Connection connection) {
+        send(game -> {
+            if (connections.remove(connection) && connections.isEmpty() && game.getGameState() == Game.GAME_STATE.GAME_RUNNING) {
+                game.handleEndingForCloseWindow();
+            }
+        });
+    }
+
+    /**
+     * Executes a command of a client which has joined the game and sends the answer to the client.
+     *
+     * @param connection the client
+     * @param command    the words of the command
+     */
+    void handle(Connection connection, String[] command) {
+        send(game -> {
+            if (connection.getPlayerName() == null) {
+                if (command[0].equals(Protocol.JOIN)) {
+                    connection.setGame(null);
+                    server.join(connection, command);
+                } else {
+                    connection.send(Protocol.ERROR + " not joined");
+                }
+                return;
+            }
+            GameSnapshot snapshot = actor.snapshot();
+            switch (command[0]) {
+                case Protocol.STATE -> connection.send(state(snapshot));
+                case Protocol.BOARD -> connection.send(Protocol.BOARD + " " + Protocol.encodeBoard(snapshot));
+                case Protocol.RACK -> connection.send(rack(snapshot.getPlayer(connection.getPlayerName())));
+                case Protocol.PLACE, Protocol.SWAP, Protocol.SKIP, Protocol.HINT -> {
+                    if (snapshot.getGameState() != Game.GAME_STATE.GAME_RUNNING) {
+                        connection.send(Protocol.ERROR + " game is over");
+                    } else if (!snapshot.getCurrentPlayer().name().equals(connection.getPlayerName())) {
+                        connection.send(Protocol.ERROR + " not your turn");
+                    } else {
+                        play(game, connection, command);
+                    }
+                }
+                case Protocol.QUIT -> {
+                    if (game.getGameState() == Game.GAME_STATE.GAME_RUNNING) {
+                        game.handleEndingForCloseWindow();
+                    }
+                    connection.send(Protocol.OK + " 0");
+                }
+                case Protocol.JOIN -> connection.send(Protocol.ERROR + " already joined");
+                default -> connection.send(Protocol.ERROR + " unknown command " + command[0]);
+            }
+        });
+    }
+
+    private void send(Consumer<Game> message) {
+        actor.tell(message).exceptionally(e -> {
+            logger.log(Level.SEVERE, "Game " + id + " failed to execute a command.", e);
+            return null;
+        });
+    }
+
+    private static void play(Game game, Connection connection, String[] command) {
+        switch (command[0]) {
+            case Protocol.PLACE -> place(game, connection, command);
+            case Protocol.SWAP -> {
+                game.playerSwapHand();
+                connection.send(Protocol.OK + " 0");
+            }
+            case Protocol.SKIP -> {
+                game.playerFinishTurn(new Move(List.of()));
+                connection.send(Protocol.OK + " 0");
+            }
+            case Protocol.HINT -> connection.send(hint(game.suggestMove()));
+            default -> throw new IllegalArgumentException("Unknown command " + command[0]);
+        }
+    }
+
+    private static void place(Game game, Connection connection, String[] command) {
+        List<PlacedTile> placedTiles = new ArrayList<>(command.length - 1);
+        try {
+            for (int i = 1; i < command.length; i++) {
+                placedTiles.add(Protocol.decodePlacement(command[i]));
+            }
+        } catch (IllegalArgumentException e) {
+            connection.send(Protocol.ERROR + " " + e.getMessage());
+            return;
+        }
+        if (placedTiles.isEmpty()) {
+            connection.send(Protocol.ERROR + " no tiles placed");
+            return;
+        }
+        Player player = game.getCurrentPlayer();
+        int points = player.getPoints();
+        if (game.playerFinishTurn(new Move(placedTiles))) {
+            connection.send(Protocol.OK + " " + (player.getPoints() - points));
+        } else {
+            connection.send(Protocol.ERROR + " invalid move");
+        }
+    }
+
+    private static String state(GameSnapshot snapshot) {
+        StringBuilder state = new StringBuilder(Protocol.STATE).append(' ').append(snapshot.getGameState())
+                .append(' ').append(snapshot.getCurrentPlayer().name());
+        for (GameSnapshot.PlayerState player : snapshot.getPlayers()) {
+            state.append(' ').append(player.name()).append(':').append(player.points());
+        }
+        return state.toString();
+    }
+
+    private static String rack(GameSnapshot.PlayerState player) {
+        StringBuilder rack = new StringBuilder(Protocol.RACK);
+        for (Tile tile : player.rack()) {
+            rack.append(' ').append(Protocol.encodeTile(tile));
+        }
+        return rack.toString();
+    }
+
+    private static String hint(ScoredMove move) {
+        if (move == null) {
+            return Protocol.HINT + " " + Protocol.NONE;
+        }
+        StringBuilder hint = new StringBuilder(Protocol.HINT).append(' ').append(move.score());
+        for (PlacedTile placedTile : move.move().getPlacedTiles()) {
+            hint.append(' ').append(Protocol.encodePlacement(placedTile));
+        }
+        return hint.toString();
+    }
+
+    private void broadcast(String event) {
+        for (int i = 0; i < connections.size(); i++) {
+            connections.get(i).send(Protocol.EVENT + " " + event);
+        }
+    }
+
+    @Override
+    public void onCurrentPlayerChanged(int currentPlayerIndex) {
+        broadcast("TURN " + playerNames.get(currentPlayerIndex));
+    }
+
+    @Override
+    public void onGameStateChanged(Game.GAME_STATE gameState) {
+        broadcast(gameState.name());
+        server.removeGame(id);
+        logger.log(Level.INFO, "Game {0} ended: {1}.", new Object[]{id, gameState});
+    }
+
+    @Override
+    public void onPointsChanged(Player player, int points) {
+        broadcast("POINTS " + player.getPlayerName() + " " + points);
+    }
+}
@@ -0,0 +1,183 @@
+package scrabble.Server;
+
+import scrabble.Game;
+import scrabble.config.Config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The LoopbackClient class plays complete games against a {@link GameServer} through the line protocol, to test the
+ * server without a user interface. Every game is played by its own thread with one connection per player. The player
+ * whose turn it is asks the server for a hint and places it, or skips the turn if the hint is empty.
+ * <p>
+ * Usage: {@code LoopbackClient [games] [language] [port]}, for example {@code LoopbackClient 200 EN}. Without a port,
+ * a server is started in the same process on a free port and stopped at the end.
+ */
+public class LoopbackClient {
+    private static final int MAX_TURNS = 1000;
+    private static final int NUMBER_OF_PLAYERS = 2;
+    private static final String RUNNING = Game.GAME_STATE.GAME_RUNNING.name();
+
+    private final int port;
+    private final Config.LANGUAGE language;
+
+    /**
+     * Creates a client for the server on the local host at the given port.
+     *
+     * @param port     the port of the server
+     * @param language the language of the games
+     */
+    public LoopbackClient(int port, Config.LANGUAGE language) {
+        this.port = port;
+        this.language = language;
+    }
+
+    /**
+     * Plays the given number of games at the same time.
+     *
+     * @param args the number of games, the language and the port of a running server
+     * @throws IOException          if the server could not be started
+     * @throws InterruptedException if the client was interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        Config.LANGUAGE language = args.length > 1 ? Config.LANGUAGE.valueOf(args[1].toUpperCase(Locale.ROOT)) : Config.LANGUAGE.EN;
+        if (args.length > 2) {
+            new LoopbackClient(Integer.parseInt(args[2]), language).playGames(games);
+            return;
+        }
+        try (GameServer server = new GameServer(0, Runtime.getRuntime().availableProcessors())) {
+            server.start();
+            new LoopbackClient(server.getPort(), language).playGames(games);
+        }
+    }
+
+    /**
+     * Plays the given number of games at the same time and prints the final state of every game and the throughput.
+     *
+     * @param games the number of games
+     * @throws InterruptedException if the client was interrupted
+     */
+    public void playGames(int games) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(games);
+        try {
+            long start = System.nanoTime();
+            List<Future<String>> results = new ArrayList<>(games);
+            for (int i = 0; i < games; i++) {
+                results.add(executor.submit(this::playGame));
+            }
+            int finished = 0;
+            for (Future<String> result : results) {
+                try {
+                    System.out.println(result.get());
+                    finished++;
+                } catch (ExecutionException e) {
+                    System.out.println("Game failed: " + e.getCause());
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "Played %d of %d games in %.1f s, %.1f games/s%n",
+                    finished, games, seconds, finished / seconds);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Creates a game, joins it with one connection per player and plays it until it is over.
+     *
+     * @return the final state of the game
+     * @throws IOException if the connection to the server failed
+     */
+    public String playGame() throws IOException {
+        List<Client> players = new ArrayList<>(NUMBER_OF_PLAYERS);
+        try (Client creator = new Client(port)) {
+            List<String> names = new ArrayList<>(NUMBER_OF_PLAYERS);
+            for (int i = 1; i <= NUMBER_OF_PLAYERS; i++) {
+                names.add("Player" + i);
+            }
+            String[] game = creator.request(Protocol.CREATE + " " + language.name() + " " + String.join(" ", names));
+            for (String name : names) {
+                Client player = new Client(port);
+                players.add(player);
+                player.request(Protocol.JOIN + " " + game[1] + " " + name);
+            }
+            String[] state = players.get(0).request(Protocol.STATE);
+            for (int turn = 0; turn < MAX_TURNS && state[1].equals(RUNNING); turn++) {
+                Client player = players.get(names.indexOf(state[2]));
+                String[] hint = player.request(Protocol.HINT);
+                if (hint[1].equals(Protocol.NONE)) {
+                    player.request(Protocol.SKIP);
+                } else {
+                    String[] placements = new String[hint.length - 2];
+                    System.arraycopy(hint, 2, placements, 0, placements.length);
+                    player.request(Protocol.PLACE + " " + String.join(" ", placements));
+                }
+                state = players.get(0).request(Protocol.STATE);
+            }
+            if (state[1].equals(RUNNING)) {
+                players.get(0).request(Protocol.QUIT);
+            }
+            return "Game " + game[1] + ": " + String.join(" ", state);
+        } finally {
+            for (Client player : players) {
+                player.close();
+            }
+        }
+    }
+
+    /**
+     * A blocking connection to the server which sends one command at a time and waits for its answer.
+     */
+    private static final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final Writer writer;
+
+        Client(int port) throws IOException {
+            socket = new Socket("localhost", port);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), Protocol.CHARSET));
+            writer = new OutputStreamWriter(socket.getOutputStream(), Protocol.CHARSET);
+        }
+
+        /**
+         * Sends a command and returns the words of its answer. Events which arrive before the answer are skipped.
+         *
+         * @throws IllegalStateException if the server answered with an error
+         */
+        String[] request(String command) throws IOException {
+            writer.write(command + "\n");
+            writer.flush();
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Connection closed by the server");
+                }
+            } while (line.startsWith(Protocol.EVENT));
+            if (line.startsWith(Protocol.ERROR)) {
+                throw new IllegalStateException(command + " failed: " + line);
+            }
+            return Protocol.split(line);
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package scrabble.Server;
+
+import scrabble.GameSnapshot;
+import scrabble.Model.Board;
+import scrabble.Model.PlacedTile;
+import scrabble.Model.Tile;
+import scrabble.config.Config;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The Protocol class defines the line protocol between the {@link GameServer} and its clients. Every message is one
+ * line of UTF-8 text terminated by a line feed, and its words are separated by single spaces.
+ * <p>
+ * Commands of a client which has not joined a game:
+ * <ul>
+ *     <li>{@code CREATE <language> <player> <player> [<player> [<player>]]} creates a game, answered with
+ *     {@code GAME <id>}, the names of the players have to be valid user names and different from each other</li>
+ *     <li>{@code JOIN <id> <player>} joins a game as one of its players, answered with {@code JOINED <id> <player>}</li>
+ * </ul>
+ * Commands of a client which has joined a game:
+ * <ul>
+ *     <li>{@code STATE} answered with {@code STATE <game state> <current player> <player>:<points> ...}</li>
+ *     <li>{@code BOARD} answered with {@code BOARD <squares>}, the letters of the squares row by row</li>
+ *     <li>{@code RACK} answered with {@code RACK <tile> ...}</li>
+ *     <li>{@code PLACE <placement> ...} finishes the turn with the given tiles, answered with {@code OK <points>}</li>
+ *     <li>{@code SWAP} swaps the hand, {@code SKIP} skips the turn and {@code QUIT} aborts the game, answered with
+ *     {@code OK 0}</li>
+ *     <li>{@code HINT} answered with {@code HINT <points> <placement> ...} for the best move of the hand or
+ *     {@code HINT NONE}</li>
+ * </ul>
+ * A tile is written as its letter followed by its value, e.g. {@code Q10}, the joker as {@value #JOKER}. A placement
+ * is written as {@code <row>,<column>,<tile>}. An empty square of the board is written as {@value #EMPTY_SQUARE}.
+ * A command which cannot be executed is answered with {@code ERROR <reason>}. A client which has joined a game also
+ * receives the events of the game as lines starting with {@code EVENT}, which may arrive before the answer to a command.
+ */
+final class Protocol {
+    /**
+     * The charset of the lines
+     */
+    static final Charset CHARSET = StandardCharsets.UTF_8;
+    /**
+     * The maximum number of bytes of a line without the line feed
+     */
+    static final int MAX_LINE_LENGTH = 1024;
+    /**
+     * The character which stands for the joker in tiles and on the board
+     */
+    static final char JOKER = '_';
+    /**
+     * The character which stands for an empty square on the board
+     */
+    static final char EMPTY_SQUARE = '.';
+
+    static final String CREATE = "CREATE";
+    static final String JOIN = "JOIN";
+    static final String STATE = "STATE";
+    static final String BOARD = "BOARD";
+    static final String RACK = "RACK";
+    static final String PLACE = "PLACE";
+    static final String SWAP = "SWAP";
+    static final String SKIP = "SKIP";
+    static final String QUIT = "QUIT";
+    static final String HINT = "HINT";
+    static final String GAME = "GAME";
+    static final String JOINED = "JOINED";
+    static final String OK = "OK";
+    static final String ERROR = "ERROR";
+    static final String EVENT = "EVENT";
+    static final String NONE = "NONE";
+
+    private Protocol() {
+    }
+
+    /**
+     * Splits a line into its words.
+     *
+     * @param line the line without the line feed
+     * @return the words of the line
+     */
+    static String[] split(String line) {
+        return line.strip().split(" +");
+    }
+
+    /**
+     * Writes a tile as its letter followed by its value.
+     *
+     * @param tile the tile
+     * @return the tile as text
+     */
+    static String encodeTile(Tile tile) {
+        return encodeLetter(tile.letter()) + String.valueOf(tile.value());
+    }
+
+    /**
+     * Reads a tile written by {@link #encodeTile(Tile)}.
+     *
+     * @param text the tile as text
+     * @return the tile
+     * @throws IllegalArgumentException if the text is not a tile
+     */
+    static Tile decodeTile(String text) {
+        if (text.length() < 2) {
+            throw new IllegalArgumentException("Invalid tile: " + text);
+        }
+        char letter = text.charAt(0) == JOKER ? ' ' : text.charAt(0);
+        return new Tile(letter, Integer.parseInt(text.substring(1)));
+    }
+
+    /**
+     * Writes a placed tile as its row, column and tile separated by commas.
+     *
+     * @param placedTile the placed tile
+     * @return the placed tile as text
+     */
+    static String encodePlacement(PlacedTile placedTile) {
+        return placedTile.row() + "," + placedTile.col() + "," + encodeTile(placedTile.tile());
+    }
+
+    /**
+     * Reads a placed tile written by {@link #encodePlacement(PlacedTile)}.
+     *
+     * @param text the placed tile as text
+     * @return the placed tile
+     * @throws IllegalArgumentException if the text is not a placed tile or the square is not on the board
+     */
+    static PlacedTile decodePlacement(String text) {
+        String[] parts = text.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid placement: " + text);
+        }
+        int row = Integer.parseInt(parts[0]);
+        int col = Integer.parseInt(parts[1]);
+        if (row < 0 || row >= Config.BOARD_ROW_SIZE || col < 0 || col >= Config.BOARD_COL_SIZE) {
+            throw new IllegalArgumentException("Square is not on the board: " + text);
+        }
+        return new PlacedTile(row, col, decodeTile(parts[2]));
+    }
+
+    /**
+     * Writes the letters of the board of a snapshot row by row.
+     *
+     * @param snapshot the snapshot of the game
+     * @return the squares of the board as text
+     */
+    static String encodeBoard(GameSnapshot snapshot) {
+        StringBuilder squares = new StringBuilder(Board.SIZE);
+        for (int index = 0; index < Board.SIZE; index++) {
+            squares.append(snapshot.isOccupied(index) ? encodeLetter(snapshot.getLetter(index)) : EMPTY_SQUARE);
+        }
+        return squares.toString();
+    }
+
+    private static char encodeLetter(char letter) {
+        return letter == ' ' ? JOKER : letter;
+    }
+}
@@ -0,0 +1,214 @@
+package scrabble;
+
+import scrabble.Engine.ParallelMoveSearch;
+import scrabble.Engine.Scoring;
+import scrabble.Log.Logging;
+import scrabble.Metrics.Metrics;
+import scrabble.Model.ComputerPlayer;
+import scrabble.Model.Player;
+import scrabble.config.Config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The Simulation class is a command line entry point which plays complete games between computer players without a
+ * user interface. The games run in parallel on a fixed thread pool and share the word validator of their language.
+ * At the end the throughput, the latency of the turns and the distribution of the scores are reported.
+ * <p>
+ * Usage: {@code Simulation [games] [threads] [language] [players] [seed] [search threads]}, for example
+ * {@code Simulation 1000 8 EN 2}. If a seed is given, game i draws its tiles from a bag seeded with seed + i, so that a
+ * run can be reproduced. If a number of search threads is given, the moves of the computer players are searched by a
+ * {@link ParallelMoveSearch} on a pool of that many threads, which is shared by all games. The parallel search finds
+ * the same moves for any number of search threads, so a seeded run reports the same scores.
+ * Pass {@code -} as the seed to search in parallel without a seed.
+ */
+public class Simulation {
+    private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+    private static final int MAX_TURNS = 1000;
+    private static final int SCORE_BUCKET_SIZE = 50;
+    private static final int SCORE_BUCKETS = 20;
+    private static final int LATENCY_BUCKETS = 64;
+
+    private final Config.LANGUAGE language;
+    private final int numberOfPlayers;
+    private ParallelMoveSearch moveSearch;
+    private final LongAdder finishedGames = new LongAdder();
+    private final LongAdder abortedGames = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder turnNanos = new LongAdder();
+    private final LongAccumulator maxTurnNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray turnLatencies = new AtomicLongArray(LATENCY_BUCKETS);
+    private final LongAdder scores = new LongAdder();
+    private final LongAdder scoredPlayers = new LongAdder();
+    private final LongAccumulator minScore = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxScore = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final AtomicLongArray scoreDistribution = new AtomicLongArray(SCORE_BUCKETS + 1);
+
+    private Simulation(Config.LANGUAGE language, int numberOfPlayers) {
+        this.language = language;
+        this.numberOfPlayers = numberOfPlayers;
+    }
+
+    /**
+     * Runs the simulation with the given command line arguments.
+     *
+     * @param args the number of games, the number of threads, the language, the number of players per game, the seed
+     *             and the number of search threads
+     * @throws IOException          if the word list of the language could not be loaded
+     * @throws InterruptedException if the simulation was interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Config.LANGUAGE language = args.length > 2 ? Config.LANGUAGE.valueOf(args[2].toUpperCase(Locale.ROOT)) : Config.LANGUAGE.EN;
+        int numberOfPlayers = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+        Long seed = args.length > 4 && !args[4].equals("-") ? Long.valueOf(args[4]) : null;
+        int searchThreads = args.length > 5 ? Integer.parseInt(args[5]) : 0;
+        if (games <= 0 || threads <= 0 || searchThreads < 0) {
+            throw new IllegalArgumentException("The number of games and threads has to be greater than 0");
+        }
+        logger.setLevel(Level.WARNING);
+        new Simulation(language, numberOfPlayers).run(games, threads, seed, searchThreads);
+    }
+
+    private void run(int games, int threads, Long seed, int searchThreads) throws IOException, InterruptedException {
+        WordValidatorRegistry registry = WordValidatorRegistry.getInstance();
+        WordValidator wordValidator = registry.acquire(language);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        ForkJoinPool searchPool = searchThreads > 0 ? new ForkJoinPool(searchThreads) : null;
+        if (searchPool != null) {
+            moveSearch = new ParallelMoveSearch(wordValidator, Scoring.forLanguage(language), searchPool);
+        }
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> results = new ArrayList<>(games);
+            for (int i = 0; i < games; i++) {
+                Long gameSeed = seed != null ? seed + i : null;
+                results.add(executor.submit(() -> playGame(gameSeed)));
+            }
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    logger.log(Level.SEVERE, "A simulated game failed.", e.getCause());
+                }
+            }
+            report(games, threads, searchThreads, System.nanoTime() - start);
+            if (Metrics.ENABLED) {
+                System.out.print(Metrics.dump());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (searchPool != null) {
+                searchPool.shutdown();
+            }
+            registry.release(language);
+        }
+    }
+
+    private void playGame(Long seed) {
+        List<Player> players = new ArrayList<>(numberOfPlayers);
+        for (int i = 1; i <= numberOfPlayers; i++) {
+            players.add(new ComputerPlayer("Computer" + i));
+        }
+        Game game = new Game();
+        game.setMoveSearch(moveSearch);
+        if (seed != null) {
+            game.setUpGame(language, players, seed);
+        } else {
+            game.setUpGame(language, players);
+        }
+        int turn = 0;
+        while (game.getGameState() == Game.GAME_STATE.GAME_RUNNING && turn < MAX_TURNS) {
+            long start = System.nanoTime();
+            game.playComputerTurn();
+            recordTurn(System.nanoTime() - start);
+            turn++;
+        }
+        if (game.getGameState() == Game.GAME_STATE.GAME_RUNNING) {
+            game.handleEndingForCloseWindow();
+            abortedGames.increment();
+            return;
+        }
+        for (Player player : players) {
+            recordScore(player.getPoints());
+        }
+        finishedGames.increment();
+    }
+
+    private void recordTurn(long nanos) {
+        turns.increment();
+        turnNanos.add(nanos);
+        maxTurnNanos.accumulate(nanos);
+        turnLatencies.incrementAndGet(63 - Long.numberOfLeadingZeros(Math.max(nanos, 1)));
+    }
+
+    private void recordScore(int score) {
+        scores.add(score);
+        scoredPlayers.increment();
+        minScore.accumulate(score);
+        maxScore.accumulate(score);
+        scoreDistribution.incrementAndGet(Math.min(Math.max(score, 0) / SCORE_BUCKET_SIZE, SCORE_BUCKETS));
+    }
+
+    private void report(int games, int threads, int searchThreads, long nanos) {
+        double seconds = nanos / 1e9;
+        long turnCount = Math.max(turns.sum(), 1);
+        long playerCount = Math.max(scoredPlayers.sum(), 1);
+        System.out.printf(Locale.ROOT, "Simulated %d games (%d finished, %d aborted) with %d players in %s on %d threads%s%n",
+                games, finishedGames.sum(), abortedGames.sum(), numberOfPlayers, language.name(), threads,
+                searchThreads > 0 ? ", parallel move search on " + searchThreads + " threads" : "");
+        System.out.printf(Locale.ROOT, "Throughput: %.1f games/s, %.0f games/min, %.1f turns/s%n",
+                games / seconds, 60 * games / seconds, turns.sum() / seconds);
+        System.out.printf(Locale.ROOT, "Turn latency: avg %.3f ms, p50 < %.3f ms, p99 < %.3f ms, max %.3f ms%n",
+                turnNanos.sum() / 1e6 / turnCount, latencyPercentile(0.5) / 1e6, latencyPercentile(0.99) / 1e6,
+                maxTurnNanos.get() / 1e6);
+        System.out.printf(Locale.ROOT, "Scores: min %d, avg %.1f, max %d%n",
+                scoredPlayers.sum() > 0 ? minScore.get() : 0, (double) scores.sum() / playerCount,
+                scoredPlayers.sum() > 0 ? maxScore.get() : 0);
+        for (int bucket = 0; bucket <= SCORE_BUCKETS; bucket++) {
+            long count = scoreDistribution.get(bucket);
+            if (count > 0) {
+                String range = bucket < SCORE_BUCKETS
+                        ? String.format(Locale.ROOT, "%4d-%-4d", bucket * SCORE_BUCKET_SIZE, (bucket + 1) * SCORE_BUCKET_SIZE - 1)
+                        : String.format(Locale.ROOT, "%4d+    ", bucket * SCORE_BUCKET_SIZE);
+                System.out.printf(Locale.ROOT, "  %s %6.2f%% %s%n", range, 100.0 * count / playerCount,
+                        "#".repeat((int) Math.round(50.0 * count / playerCount)));
+            }
+        }
+    }
+
+    /**
+     * Returns the upper bound of the power of two bucket which contains the given percentile of the turn latencies.
+     */
+    private long latencyPercentile(double percentile) {
+        long total = 0;
+        for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+            total += turnLatencies.get(bucket);
+        }
+        long threshold = (long) Math.ceil(percentile * total);
+        long count = 0;
+        for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+            count += turnLatencies.get(bucket);
+            if (count >= threshold && count > 0) {
+                return bucket >= 62 ? Long.MAX_VALUE : 1L << (bucket + 1);
+            }
+        }
+        return 0;
+    }
+}
@@ -1,90 +1,162 @@
 package scrabble;
 
+import scrabble.Dictionary.Lexicon;
+import scrabble.Dictionary.LexiconFile;
+import scrabble.Dictionary.WordListLoader;
+import scrabble.Metrics.Counter;
+import scrabble.Metrics.Histogram;
+import scrabble.Metrics.Metrics;
 import scrabble.Model.Tile;
 
-import java.io.*;
-import java.util.HashMap;
+import java.io.File;
+import java.io.IOException;
 import java.util.Map;
 
 /**
- * The WordValidator class is responsible for checking the supplied words against a given wordlist which gets loaded on creation
+ * The WordValidator class is responsible for checking the supplied words against a given wordlist which gets loaded on creation.
+ * The words are stored in a compact {@link Lexicon} which is read from a compiled, memory-mapped {@link LexiconFile}.
  */
 public class WordValidator {
-    private final HashMap<String, String> wordDictionary = new HashMap<>();
-    private final Map<Tile, Integer> tiles;
+    private static final String NO_DESCRIPTION = "No Description available.";
+    /**
+     * The letter of a joker tile, which can stand for any letter of the tile set
+     */
+    public static final char JOKER = ' ';
+    private static final Counter LOOKUPS = Metrics.counter("dictionary.lookups");
+    private static final Counter MISSES = Metrics.counter("dictionary.misses");
+    private static final Histogram LOOKUP_NANOS = Metrics.histogram("dictionary.lookup.nanos");
+    private final LexiconFile lexiconFile;
+    private final Lexicon lexicon;
+    private final boolean[] jokerLetters;
 
     /**
-     * Constructs a new WordValidator object by extracting the words and descriptions from the given file and loading
-     * them into the wordDictionary.
+     * Constructs a new WordValidator object by loading the words and descriptions of the given file. The word list is
+     * compiled into a binary lexicon file on first use, later constructions map the compiled file directly.
      *
      * @param wordListFile the file from which to load the words and descriptions
+     * @param tiles        the tile set of the language, which defines the letters a joker can stand for
      * @throws IOException if there is an error reading the file
      */
     public WordValidator(File wordListFile, Map<Tile, Integer> tiles) throws IOException {
-        extractWordsAndDescriptionFromFile(wordListFile);
-        this.tiles = tiles;
+        this(wordListFile, tiles, (parsedBytes, totalBytes) -> {
+        });
+    }
+
+    /**
+     * Constructs a new WordValidator object and reports the progress of loading the word list to the given listener.
+     *
+     * @param wordListFile the file from which to load the words and descriptions
+     * @param tiles        the tile set of the language, which defines the letters a joker can stand for
+     * @param listener     the listener receiving progress events while the word list is loaded
+     * @throws IOException if there is an error reading the file
+     */
+    public WordValidator(File wordListFile, Map<Tile, Integer> tiles, WordListLoader.ProgressListener listener)
+            throws IOException {
+        lexiconFile = LexiconFile.load(wordListFile, listener);
+        lexicon = lexiconFile.getLexicon();
+        jokerLetters = createJokerLetters(tiles);
     }
 
 
     /**
-     * Checks whether the loaded wordDictionary contains the given word.
+     * Checks whether the loaded lexicon contains the given word. A space in the word is a joker which can stand for
+     * any letter of the tile set.
      *
      * @param word the word to check
      * @return true if the word is in the dictionary, false otherwise
      */
     public boolean containsWord(String word) {
+        if (!Metrics.ENABLED) {
+            return lookUpWord(word);
+        }
+        long start = System.nanoTime();
+        boolean contained = lookUpWord(word);
+        LOOKUP_NANOS.record(System.nanoTime() - start);
+        LOOKUPS.increment();
+        if (!contained) {
+            MISSES.increment();
+        }
+        return contained;
+    }
+
+    private boolean lookUpWord(String word) {
         word = word.toLowerCase();
-        if (word.contains(" ")){
-            return controlBothJoker(word);
+        if (word.indexOf(JOKER) >= 0) {
+            return lexicon.getDawg().matches(word, JOKER, jokerLetters, new char[word.length()]);
         }
-        return wordDictionary.containsKey(word);
+        return lexicon.contains(word);
     }
 
-    private boolean controlBothJoker(String word){
-        String firstJoker;
-        for (Tile tile1: tiles.keySet()){
-            firstJoker = word.replaceFirst(" ", String.valueOf(tile1.letter()).toLowerCase());
-            if(firstJoker.contains(" ")){
-                String secondJoker;
-                for (Tile tile2: tiles.keySet()){
-                    secondJoker = firstJoker.replaceFirst(" ", String.valueOf(tile2.letter()).toLowerCase());
-                    if(wordDictionary.containsKey(secondJoker)){
-                        return true;
-                    }
-                }
-            } else{
-                if(wordDictionary.containsKey(word)){
-                    return true;
-                }
-            }
+    /**
+     * Resolves the jokers of the given word. Every joker is replaced by the letter it has to stand for so that the
+     * word is in the dictionary. If there are several possibilities, the first word in alphabetical order is returned.
+     *
+     * @param word the word which may contain any number of jokers
+     * @return the word in lower case with all jokers replaced by letters
+     * @throws IllegalArgumentException if no word in the dictionary matches the given word
+     */
+    public String resolveJokers(String word) {
+        String lowerCaseWord = word.toLowerCase();
+        char[] resolved = new char[lowerCaseWord.length()];
+        if (!lexicon.getDawg().matches(lowerCaseWord, JOKER, jokerLetters, resolved)) {
+            throw new IllegalArgumentException(word + " is not in the word list");
+        }
+        return new String(resolved);
+    }
 
+    private static boolean[] createJokerLetters(Map<Tile, Integer> tiles) {
+        char maxLetter = 0;
+        for (Tile tile : tiles.keySet()) {
+            maxLetter = (char) Math.max(maxLetter, Character.toLowerCase(tile.letter()));
+        }
+        boolean[] jokerLetters = new boolean[maxLetter + 1];
+        for (Tile tile : tiles.keySet()) {
+            if (tile.letter() != JOKER) {
+                jokerLetters[Character.toLowerCase(tile.letter())] = true;
+            }
         }
-        return false;
+        return jokerLetters;
     }
 
     /**
-     * Returns the description for the given word if it exists in the loaded wordDictionary.
+     * Returns the description for the given word if it exists in the loaded lexicon.
      *
      * @param word the word for which to retrieve the description
-     * @return the description associated with the word in the wordDictionary
+     * @return the description associated with the word in the lexicon
      * @throws IllegalArgumentException if the word is not in the dictionary
      */
     public String getDescriptionFromWord(String word) {
-        if (containsWord(word)) {
-            return wordDictionary.get(word.toLowerCase());
+        String resolvedWord = word.indexOf(JOKER) >= 0 ? resolveJokers(word) : word.toLowerCase();
+        int index = lexicon.indexOf(resolvedWord);
+        if (index >= 0) {
+            String description = lexiconFile.getDescription(index);
+            return description != null ? description : NO_DESCRIPTION;
         } else {
             throw new IllegalArgumentException(word + " is not in the word list");
         }
     }
 
-    private void extractWordsAndDescriptionFromFile(File wordListFile) throws IOException {
-        BufferedReader bufferedReader = new BufferedReader(new FileReader(wordListFile));
-        String line;
-        while ((line = bufferedReader.readLine()) != null) {
-            String[] wordDescriptionPair = line.split(";");
-            if (wordDescriptionPair.length > 0 && !wordDictionary.containsKey(wordDescriptionPair[0].toLowerCase())) {
-                wordDictionary.put(wordDescriptionPair[0].toLowerCase(), (wordDescriptionPair.length == 2) ? wordDescriptionPair[1].replaceAll("\"", "") : "No Description available.");
+    /**
+     * Returns the lower case letters of the tile set a joker can stand for in ascending order.
+     *
+     * @return the letters of the alphabet of the language
+     */
+    public char[] getAlphabet() {
+        StringBuilder alphabet = new StringBuilder();
+        for (char letter = 0; letter < jokerLetters.length; letter++) {
+            if (jokerLetters[letter]) {
+                alphabet.append(letter);
             }
         }
+        return alphabet.toString().toCharArray();
+    }
+
+    /**
+     * Returns the lexicon containing all words of the loaded word list.
+     *
+     * @return the lexicon
+     */
+    public Lexicon getLexicon() {
+        return lexicon;
     }
 }
@@ -0,0 +1,267 @@
+package scrabble;
+
+import scrabble.Dictionary.WordListLoader;
+import scrabble.Log.Logging;
+import scrabble.Metrics.Histogram;
+import scrabble.Metrics.Metrics;
+import scrabble.config.Config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The WordValidatorRegistry is a process-wide, thread-safe cache of {@link WordValidator} objects keyed by language.
+ * A validator is loaded lazily on its first use and shared by all games of the same language. Games acquire the
+ * validator when they are set up and release it when they end, which allows evicting languages nobody uses anymore.
+ */
+public final class WordValidatorRegistry {
+    private static final Logger logger = Logger.getLogger(Logging.class.getCanonicalName());
+    private static final WordValidatorRegistry INSTANCE = new WordValidatorRegistry();
+    private static final int EVICTED = -1;
+    private static final Histogram LOAD_NANOS = Metrics.histogram("dictionary.load.nanos");
+    private static final WordListLoader.ProgressListener NO_PROGRESS = (parsedBytes, totalBytes) -> {
+    };
+
+    private final ConcurrentMap<Config.LANGUAGE, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean evictWhenUnused;
+
+    /**
+     * The statistics of a single language in the registry.
+     *
+     * @param language      the language
+     * @param loaded        whether the validator is loaded
+     * @param hits          the number of acquisitions which found the validator already loaded
+     * @param misses        the number of acquisitions which had to load the validator
+     * @param loadTimeNanos the time it took to load the validator in nanoseconds
+     * @param residentBytes the approximate number of bytes occupied by the lexicon of the validator
+     * @param users         the number of games currently using the validator
+     */
+    public record Statistics(Config.LANGUAGE language, boolean loaded, long hits, long misses, long loadTimeNanos,
+                             long residentBytes, int users) {
+    }
+
+    private WordValidatorRegistry() {
+        for (Config.LANGUAGE language : Config.LANGUAGE.values()) {
+            Metrics.gauge("dictionary." + language.name() + ".words", () -> getLoadedWordCount(language));
+            Metrics.gauge("dictionary." + language.name() + ".bytes", () -> getStatistics(language).residentBytes());
+        }
+    }
+
+    public static WordValidatorRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the validator for the given language and registers the caller as a user of it. The validator is loaded
+     * if it is not in the registry yet. Concurrent callers for the same language wait for a single load.
+     * Every call has to be paired with a call to {@link #release(Config.LANGUAGE)}.
+     *
+     * @param language the language of the validator
+     * @return the shared validator
+     * @throws IOException if the word list of the language could not be loaded
+     */
+    public WordValidator acquire(Config.LANGUAGE language) throws IOException {
+        while (true) {
+            Entry entry = entries.computeIfAbsent(language, Entry::new);
+            if (entry.retain()) {
+                try {
+                    return entry.get(NO_PROGRESS);
+                } catch (IOException | RuntimeException e) {
+                    entry.release();
+                    entries.remove(language, entry);
+                    throw e;
+                }
+            }
+            entries.remove(language, entry);
+        }
+    }
+
+    /**
+     * Loads the validator for the given language without registering the caller as a user, so that a later
+     * {@link #acquire(Config.LANGUAGE)} does not have to wait. Progress events are only sent if the word list has
+     * to be loaded by this call.
+     *
+     * @param language the language of the validator
+     * @param listener the listener receiving progress events while the word list is loaded
+     * @throws IOException if the word list of the language could not be loaded
+     */
+    public void preload(Config.LANGUAGE language, WordListLoader.ProgressListener listener) throws IOException {
+        while (true) {
+            Entry entry = entries.computeIfAbsent(language, Entry::new);
+            if (entry.retain()) {
+                try {
+                    entry.get(listener);
+                    return;
+                } finally {
+                    if (entry.release() == 0 && evictWhenUnused) {
+                        evict(entry);
+                    }
+                }
+            }
+            entries.remove(language, entry);
+        }
+    }
+
+    /**
+     * Unregisters the caller as a user of the validator of the given language. If eviction of unused languages is
+     * enabled and this was the last user, the validator is removed from the registry.
+     *
+     * @param language the language of the validator
+     * @throws IllegalStateException if the validator of the language is not in use
+     */
+    public void release(Config.LANGUAGE language) {
+        Entry entry = entries.get(language);
+        if (entry == null) {
+            throw new IllegalStateException("The word validator for " + language + " is not in use");
+        }
+        if (entry.release() == 0 && evictWhenUnused) {
+            evict(entry);
+        }
+    }
+
+    /**
+     * Removes all validators which are not used by any game from the registry.
+     *
+     * @return the number of evicted languages
+     */
+    public int evictUnused() {
+        int evicted = 0;
+        for (Entry entry : entries.values()) {
+            if (evict(entry)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private boolean evict(Entry entry) {
+        if (entry.users.compareAndSet(0, EVICTED)) {
+            entries.remove(entry.language, entry);
+            logger.log(Level.INFO, "The word validator for \"{0}\" was evicted.", entry.language);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sets whether a validator is evicted as soon as its last user releases it.
+     *
+     * @param evictWhenUnused true to evict unused validators immediately
+     */
+    public void setEvictWhenUnused(boolean evictWhenUnused) {
+        this.evictWhenUnused = evictWhenUnused;
+    }
+
+    /**
+     * Returns the statistics of the given language.
+     *
+     * @param language the language
+     * @return the statistics of the language
+     */
+    public Statistics getStatistics(Config.LANGUAGE language) {
+        Entry entry = entries.get(language);
+        if (entry == null) {
+            return new Statistics(language, false, 0, 0, 0, 0, 0);
+        }
+        return entry.statistics();
+    }
+
+    /**
+     * Returns the statistics of all languages which are currently in the registry.
+     *
+     * @return the statistics of the registered languages
+     */
+    public List<Statistics> getStatistics() {
+        List<Statistics> statistics = new ArrayList<>();
+        entries.values().forEach(entry -> statistics.add(entry.statistics()));
+        return statistics;
+    }
+
+    private long getLoadedWordCount(Config.LANGUAGE language) {
+        Entry entry = entries.get(language);
+        WordValidator loaded = entry != null ? entry.wordValidator : null;
+        return loaded != null ? loaded.getLexicon().size() : 0;
+    }
+
+    private static WordValidator load(Config.LANGUAGE language, WordListLoader.ProgressListener listener)
+            throws IOException {
+        return switch (language) {
+            case EN -> new WordValidator(Config.enWordList, Config.EN_TILES, listener);
+            case DE -> new WordValidator(Config.deWordList, Config.DE_TILES, listener);
+        };
+    }
+
+    /**
+     * A registry entry. The number of users is -1 once the entry has been evicted, which makes sure an evicted entry
+     * is never handed out again.
+     */
+    private static final class Entry {
+        private final Config.LANGUAGE language;
+        private final AtomicInteger users = new AtomicInteger();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private volatile WordValidator wordValidator;
+        private volatile long loadTimeNanos;
+
+        private Entry(Config.LANGUAGE language) {
+            this.language = language;
+        }
+
+        private boolean retain() {
+            int current;
+            do {
+                current = users.get();
+                if (current == EVICTED) {
+                    return false;
+                }
+            } while (!users.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private int release() {
+            int current;
+            do {
+                current = users.get();
+                if (current <= 0) {
+                    throw new IllegalStateException("The word validator for " + language + " is not in use");
+                }
+            } while (!users.compareAndSet(current, current - 1));
+            return current - 1;
+        }
+
+        private WordValidator get(WordListLoader.ProgressListener listener) throws IOException {
+            WordValidator loaded = wordValidator;
+            if (loaded != null) {
+                hits.increment();
+                return loaded;
+            }
+            synchronized (this) {
+                if (wordValidator == null) {
+                    misses.increment();
+                    long start = System.nanoTime();
+                    wordValidator = load(language, listener);
+                    loadTimeNanos = System.nanoTime() - start;
+                    LOAD_NANOS.record(loadTimeNanos);
+                    logger.log(Level.INFO, "The word validator for \"{0}\" was loaded in {1} ms.",
+                            new Object[]{language, loadTimeNanos / 1_000_000});
+                } else {
+                    hits.increment();
+                }
+                return wordValidator;
+            }
+        }
+
+        private Statistics statistics() {
+            WordValidator loaded = wordValidator;
+            return new Statistics(language, loaded != null, hits.sum(), misses.sum(), loadTimeNanos,
+                    loaded != null ? loaded.getLexicon().sizeInBytes() : 0, Math.max(users.get(), 0));
+        }
+    }
+}
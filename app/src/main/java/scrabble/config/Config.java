@@ -14,8 +14,12 @@ public class Config {
      */
     public static final String REGEX_USERNAME = "^[A-Za-z][A-Za-z0-9_]{2,13}$";
 
-    public static final File enWordList = new File("./src/main/resources/wordlists/wordlist-en.csv");
-    public static final File deWordList = new File("./src/main/resources/wordlists/wordlist-de.txt");
+    /**
+     * The word lists of the languages. The locations can be overridden with the system properties
+     * "scrabble.wordlist.en" and "scrabble.wordlist.de", e.g. when running from another working directory.
+     */
+    public static final File enWordList = new File(System.getProperty("scrabble.wordlist.en", "./src/main/resources/wordlists/wordlist-en.csv"));
+    public static final File deWordList = new File(System.getProperty("scrabble.wordlist.de", "./src/main/resources/wordlists/wordlist-de.txt"));
 
     /**
      * This enum stores the different languages which are supported
@@ -51,6 +55,11 @@ public class Config {
      */
     public static final int INITIAL_TILE_COUNT = 7;
 
+    /**
+     * The bonus points a player receives for placing all tiles of a full hand in one turn
+     */
+    public static final int BINGO_BONUS = 50;
+
     /**
      * This map contains all tiles and amount of each tile for the language german
      */
@@ -0,0 +1,99 @@
+package scrabble.Engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import scrabble.Model.Board;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
+import scrabble.Model.Tile;
+import scrabble.WordValidator;
+import scrabble.config.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Scores moves on hand-built boards against a small word list. The expected scores are worked out by hand from the
+ * premium squares of the board and the English letter values.
+ */
+class MoveEvaluatorTest {
+    private static final List<String> WORDS = List.of("at", "cat", "cats", "retains", "ta", "to");
+    private static final Scoring SCORING = new Scoring(Config.EN_TILES);
+
+    @TempDir
+    Path directory;
+
+    private MoveEvaluator moveEvaluator;
+    private Board board;
+
+    @BeforeEach
+    void setup() throws IOException {
+        File wordList = directory.resolve("words.txt").toFile();
+        Files.write(wordList.toPath(), WORDS);
+        moveEvaluator = new MoveEvaluator(new WordValidator(wordList, Config.EN_TILES), SCORING);
+        board = new Board();
+    }
+
+    @Test
+    void testSingleTileFormsOneWord() {
+        placeCatOnCenter();
+        // O on the double letter square below the T only forms TO, which is scored once: T1 + O1 * 2
+        assertEquals(3, moveEvaluator.score(board, move("O", 8, 8, Config.Direction.DOWN)));
+    }
+
+    @Test
+    void testPremiumUnderExistingTileIsNotCounted() {
+        placeCatOnCenter();
+        // The A of CAT lies on the double word square in the center, which does not count again for CATS
+        assertEquals(6, moveEvaluator.score(board, move("S", 7, 9, Config.Direction.RIGHT)));
+    }
+
+    @Test
+    void testMainWordAndCrossWord() {
+        placeCatOnCenter();
+        // AT below CAT with the A on a double letter square forms AT (2 + 1) and the cross-word TA (1 + 2)
+        assertEquals(6, moveEvaluator.score(board, move("AT", 8, 8, Config.Direction.RIGHT)));
+    }
+
+    @Test
+    void testBingoBonus() {
+        // RETAINS on the first move covers the double word square in the center: 7 * 2 + 50
+        assertEquals(64, moveEvaluator.score(board, move("RETAINS", 7, 4, Config.Direction.RIGHT)));
+    }
+
+    @Test
+    void testJokerIsWorthNothing() {
+        // C, a joker for the A and T on the first move: (3 + 0 + 1) * 2
+        assertEquals(8, moveEvaluator.score(board, move("C T", 7, 6, Config.Direction.RIGHT)));
+    }
+
+    @Test
+    void testUnknownWordIsInvalid() {
+        assertEquals(MoveEvaluator.INVALID, moveEvaluator.score(board, move("TAC", 7, 6, Config.Direction.RIGHT)));
+    }
+
+    private void placeCatOnCenter() {
+        board.setTile(new Tile('C', 3), 7, 6);
+        board.setTile(new Tile('A', 1), 7, 7);
+        board.setTile(new Tile('T', 1), 7, 8);
+    }
+
+    private static Move move(String letters, int row, int col, Config.Direction direction) {
+        List<PlacedTile> placedTiles = new ArrayList<>(letters.length());
+        for (int i = 0; i < letters.length(); i++) {
+            char letter = letters.charAt(i);
+            int value = letter == WordValidator.JOKER ? 0 : SCORING.letterValue(letter);
+            int tileRow = direction == Config.Direction.DOWN ? row + i : row;
+            int tileCol = direction == Config.Direction.RIGHT ? col + i : col;
+            placedTiles.add(new PlacedTile(tileRow, tileCol, new Tile(letter, value)));
+        }
+        return new Move(placedTiles);
+    }
+}
@@ -0,0 +1,100 @@
+package scrabble.Model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the placement rules of {@link Move#isValidOn(Board)} on hand-built boards.
+ */
+class MoveTest {
+    private Board board;
+
+    @BeforeEach
+    void setup() {
+        board = new Board();
+    }
+
+    @Test
+    void testFirstMoveOnCenter() {
+        assertTrue(move(tile(7, 6), tile(7, 7), tile(7, 8)).isValidOn(board));
+    }
+
+    @Test
+    void testFirstMoveOffCenter() {
+        assertFalse(move(tile(0, 0), tile(0, 1), tile(0, 2)).isValidOn(board));
+    }
+
+    @Test
+    void testFirstMoveWithSingleTile() {
+        assertFalse(move(tile(7, 7)).isValidOn(board));
+    }
+
+    @Test
+    void testEmptyMove() {
+        assertFalse(move().isValidOn(board));
+    }
+
+    @Test
+    void testGapInLine() {
+        assertFalse(move(tile(7, 6), tile(7, 8)).isValidOn(board));
+    }
+
+    @Test
+    void testGapFilledByExistingTile() {
+        board.setTile(new Tile('A', 1), 7, 7);
+        assertTrue(move(tile(7, 6), tile(7, 8)).isValidOn(board));
+    }
+
+    @Test
+    void testTilesNotInLine() {
+        assertFalse(move(tile(7, 7), tile(8, 8)).isValidOn(board));
+    }
+
+    @Test
+    void testTilesInColumnWithOneOutOfLine() {
+        assertFalse(move(tile(6, 7), tile(7, 7), tile(7, 8), tile(8, 7)).isValidOn(board));
+    }
+
+    @Test
+    void testMoveTouchingExistingTile() {
+        placeCatOnCenter();
+        assertTrue(move(tile(8, 8), tile(9, 8)).isValidOn(board));
+    }
+
+    @Test
+    void testMoveNotConnected() {
+        placeCatOnCenter();
+        assertFalse(move(tile(0, 0), tile(0, 1)).isValidOn(board));
+    }
+
+    @Test
+    void testMoveTouchingOnlyDiagonally() {
+        placeCatOnCenter();
+        assertFalse(move(tile(8, 9), tile(8, 10)).isValidOn(board));
+    }
+
+    @Test
+    void testMoveOnOccupiedSquare() {
+        placeCatOnCenter();
+        assertFalse(move(tile(7, 8), tile(7, 9)).isValidOn(board));
+    }
+
+    private void placeCatOnCenter() {
+        board.setTile(new Tile('C', 3), 7, 6);
+        board.setTile(new Tile('A', 1), 7, 7);
+        board.setTile(new Tile('T', 1), 7, 8);
+    }
+
+    private static PlacedTile tile(int row, int col) {
+        return new PlacedTile(row, col, new Tile('E', 1));
+    }
+
+    private static Move move(PlacedTile... placedTiles) {
+        return new Move(List.of(placedTiles));
+    }
+}
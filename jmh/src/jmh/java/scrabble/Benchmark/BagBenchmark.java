@@ -0,0 +1,59 @@
+package scrabble.Benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import scrabble.Model.Bag;
+import scrabble.Model.Tile;
+import scrabble.config.Config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks drawing tiles from a {@link Bag}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BagBenchmark {
+
+    @Param({"EN", "DE"})
+    private Config.LANGUAGE language;
+
+    private Bag bag;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bag = new Bag(language);
+    }
+
+    /**
+     * Draws a hand and puts it back, so the bag keeps its size.
+     */
+    @Benchmark
+    public List<Tile> drawAndReturnHand() {
+        List<Tile> hand = bag.getNTiles(Config.INITIAL_TILE_COUNT);
+        hand.forEach(bag::addTile);
+        return hand;
+    }
+
+    /**
+     * Fills a new bag and draws hands until it is empty, as during a whole game.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void emptyNewBag(Blackhole blackhole) {
+        Bag newBag = new Bag(language);
+        while (newBag.getRemainingTiles() > 0) {
+            blackhole.consume(newBag.getNTiles(Math.min(Config.INITIAL_TILE_COUNT, newBag.getRemainingTiles())));
+        }
+    }
+}
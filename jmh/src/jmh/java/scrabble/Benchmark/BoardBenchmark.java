@@ -0,0 +1,92 @@
+package scrabble.Benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import scrabble.Model.Board;
+import scrabble.Model.Field;
+import scrabble.Model.Tile;
+import scrabble.config.Config;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks constructing a {@link Board} and scanning its squares.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+
+    /**
+     * The number of tiles on the scanned board.
+     */
+    @Param({"0", "40", "90"})
+    private int tiles;
+
+    private Board board;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new Board();
+        Random random = new Random(42);
+        for (int placed = 0; placed < tiles; ) {
+            int row = random.nextInt(Config.BOARD_ROW_SIZE);
+            int col = random.nextInt(Config.BOARD_COL_SIZE);
+            if (!board.isOccupied(row, col)) {
+                board.setTile(new Tile((char) ('A' + random.nextInt(26)), 1 + random.nextInt(10)), row, col);
+                placed++;
+            }
+        }
+    }
+
+    @Benchmark
+    public Board construct() {
+        return new Board();
+    }
+
+    @Benchmark
+    public Board copy() {
+        return new Board(board);
+    }
+
+    @Benchmark
+    public void scanFields(Blackhole blackhole) {
+        for (int row = 0; row < Config.BOARD_ROW_SIZE; row++) {
+            for (int col = 0; col < Config.BOARD_COL_SIZE; col++) {
+                Field field = board.getField(row, col);
+                blackhole.consume(field.getOccupant());
+                blackhole.consume(field.getEffect());
+            }
+        }
+    }
+
+    @Benchmark
+    public int scanOccupiedSquares() {
+        int points = 0;
+        for (int index = 0; index < Board.SIZE; index++) {
+            if (board.isOccupied(index)) {
+                points += board.getValue(index);
+            }
+        }
+        return points;
+    }
+
+    @Benchmark
+    public int diffBoards() {
+        int added = 0;
+        Board empty = new Board();
+        for (int index = board.nextAddedSquare(empty, 0); index >= 0; index = board.nextAddedSquare(empty, index + 1)) {
+            added++;
+        }
+        return added;
+    }
+}
@@ -0,0 +1,106 @@
+package scrabble.Benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import scrabble.Game;
+import scrabble.Log.Logging;
+import scrabble.Model.Board;
+import scrabble.Model.ComputerPlayer;
+import scrabble.Model.Move;
+import scrabble.Model.PlacedTile;
+import scrabble.Model.Player;
+import scrabble.config.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Benchmarks {@link Game#playerFinishTurn(Move)} and {@link Game#playerFinishTurn(Board)} on boards of a game between
+ * computer players. The moves of the game are recorded once, before every invocation a new game replays them up to
+ * the benchmarked turn, so every invocation finishes the same turn on the same board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameBenchmark {
+
+    /**
+     * The number of turns played before the benchmarked turn.
+     */
+    @Param({"1", "8", "16"})
+    private int turn;
+
+    private List<Move> recordedMoves;
+    private Game game;
+    private Move move;
+    private Board newBoard;
+
+    @Setup(Level.Trial)
+    public void recordGame() {
+        Logger.getLogger(Logging.class.getCanonicalName()).setLevel(java.util.logging.Level.WARNING);
+        recordedMoves = new ArrayList<>();
+        Game recordingGame = newGame();
+        while (recordedMoves.size() <= turn && recordingGame.getGameState() == Game.GAME_STATE.GAME_RUNNING) {
+            Move playedMove = recordingGame.playComputerTurn();
+            if (!playedMove.isEmpty()) {
+                recordedMoves.add(playedMove);
+            }
+        }
+        recordingGame.handleEndingForCloseWindow();
+        if (recordedMoves.size() <= turn) {
+            throw new IllegalStateException("The recorded game ended before turn " + turn);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void replayGame() {
+        game = newGame();
+        for (Move recordedMove : recordedMoves.subList(0, turn)) {
+            giveTilesToCurrentPlayer(recordedMove);
+            game.playerFinishTurn(recordedMove);
+        }
+        move = recordedMoves.get(turn);
+        giveTilesToCurrentPlayer(move);
+        newBoard = new Board(game.getBoard());
+        move.applyTo(newBoard);
+    }
+
+    @TearDown(Level.Invocation)
+    public void endGame() {
+        game.handleEndingForCloseWindow();
+    }
+
+    private static Game newGame() {
+        Game game = new Game();
+        game.setUpGame(Config.LANGUAGE.EN, List.of(new ComputerPlayer("Computer1"), new ComputerPlayer("Computer2")));
+        return game;
+    }
+
+    private void giveTilesToCurrentPlayer(Move move) {
+        Player player = game.getCurrentPlayer();
+        player.clearTileList();
+        for (PlacedTile placedTile : move.getPlacedTiles()) {
+            player.addTileToTileList(placedTile.tile());
+        }
+    }
+
+    @Benchmark
+    public boolean finishTurnWithMove() {
+        return game.playerFinishTurn(move);
+    }
+
+    @Benchmark
+    public boolean finishTurnWithBoard() {
+        return game.playerFinishTurn(newBoard);
+    }
+}
@@ -0,0 +1,104 @@
+package scrabble.Benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import scrabble.Engine.CrossChecks;
+import scrabble.Engine.ParallelMoveSearch;
+import scrabble.Engine.ScoredMove;
+import scrabble.Engine.Scoring;
+import scrabble.Game;
+import scrabble.Log.Logging;
+import scrabble.Model.Board;
+import scrabble.Model.ComputerPlayer;
+import scrabble.Model.Tile;
+import scrabble.WordValidator;
+import scrabble.WordValidatorRegistry;
+import scrabble.config.Config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Benchmarks {@link ParallelMoveSearch} on a pool with the given parallelism, so that the throughput of the runs shows
+ * how the search scales with the number of threads. Before the benchmark, the setup checks that the search on the pool
+ * finds the same moves in the same order as the search on a single thread and fails the trial otherwise.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelMoveSearchBenchmark {
+    private static final long SEED = 42;
+    private static final int TURN = 8;
+    private static final int LIMIT = 20;
+
+    /**
+     * The number of threads of the pool which runs the search.
+     */
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private Game game;
+    private ForkJoinPool pool;
+    private ParallelMoveSearch moveSearch;
+    private Board board;
+    private CrossChecks crossChecks;
+    private List<Tile> rack;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Logger.getLogger(Logging.class.getCanonicalName()).setLevel(java.util.logging.Level.WARNING);
+        game = new Game();
+        game.setUpGame(Config.LANGUAGE.EN, List.of(new ComputerPlayer("Computer1"), new ComputerPlayer("Computer2")), SEED);
+        for (int played = 0; played < TURN && game.getGameState() == Game.GAME_STATE.GAME_RUNNING; played++) {
+            game.playComputerTurn();
+        }
+        WordValidator wordValidator = WordValidatorRegistry.getInstance().acquire(Config.LANGUAGE.EN);
+        Scoring scoring = Scoring.forLanguage(Config.LANGUAGE.EN);
+        board = game.getBoard();
+        crossChecks = game.getCrossChecks();
+        rack = List.copyOf(game.getCurrentPlayer().getTileList());
+        pool = new ForkJoinPool(parallelism);
+        moveSearch = new ParallelMoveSearch(wordValidator, scoring, pool);
+
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        try {
+            List<ScoredMove> expected = new ParallelMoveSearch(wordValidator, scoring, singleThread)
+                    .findTopMoves(board, crossChecks, rack, LIMIT);
+            List<ScoredMove> actual = moveSearch.findTopMoves(board, crossChecks, rack, LIMIT);
+            if (expected.isEmpty() || !expected.equals(actual)) {
+                throw new IllegalStateException("The search with parallelism " + parallelism
+                        + " found other moves than the search on a single thread");
+            }
+        } finally {
+            singleThread.shutdown();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+        game.handleEndingForCloseWindow();
+        WordValidatorRegistry.getInstance().release(Config.LANGUAGE.EN);
+    }
+
+    @Benchmark
+    public ScoredMove findBestMove() {
+        return moveSearch.findBestMove(board, crossChecks, rack);
+    }
+
+    @Benchmark
+    public List<ScoredMove> findTopMoves() {
+        return moveSearch.findTopMoves(board, crossChecks, rack, LIMIT);
+    }
+}
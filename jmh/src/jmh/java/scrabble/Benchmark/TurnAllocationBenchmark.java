@@ -0,0 +1,178 @@
+package scrabble.Benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import scrabble.Engine.CrossChecks;
+import scrabble.Engine.MoveEvaluator;
+import scrabble.Engine.MoveGenerator;
+import scrabble.Engine.ScoredMove;
+import scrabble.Engine.Scoring;
+import scrabble.Game;
+import scrabble.GameListener;
+import scrabble.Log.Logging;
+import scrabble.Metrics.Metrics;
+import scrabble.Model.Board;
+import scrabble.Model.ComputerPlayer;
+import scrabble.Model.Move;
+import scrabble.WordValidator;
+import scrabble.WordValidatorRegistry;
+import scrabble.config.Config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Benchmarks the steps of finishing a turn which run on every move: validating the move, scoring it and applying it
+ * to the board and the cross-checks. These benchmarks do not need a setup per invocation, so run them with the GC
+ * profiler, e.g. {@code gradle :jmh:jmh -PjmhInclude=TurnAllocationBenchmark -PjmhProfilers=gc}, to verify that
+ * gc.alloc.rate.norm stays at 0 B/op.
+ * <p>
+ * {@link #finishTurn(FinishTurnState, Allocations)} benchmarks the whole {@link Game#playerFinishTurn(Move)}, which
+ * also checks the hand, draws from the bag, informs the listeners and switches to the next player. A turn can only be
+ * finished once, so every invocation gets a new game, and the GC profiler would count its setup as well. Instead, the
+ * benchmark measures the bytes the thread allocates during the call and reports them as the secondary results
+ * {@code allocatedBytes} and {@code allocatingTurns}, which have to stay at 0.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TurnAllocationBenchmark {
+    private static final long SEED = 42;
+
+    /**
+     * The number of turns played before the benchmarked move.
+     */
+    @Param({"1", "8", "16"})
+    private int turn;
+
+    private Game game;
+    private WordValidator wordValidator;
+    private MoveEvaluator moveEvaluator;
+    private Board board;
+    private CrossChecks crossChecks;
+    private Move move;
+    private final List<Move> playedMoves = new ArrayList<>();
+
+    /**
+     * A new game per invocation in which the current player is about to play the move of the benchmark.
+     */
+    @State(Scope.Thread)
+    public static class FinishTurnState {
+        private Game game;
+        private Move move;
+
+        @Setup(Level.Invocation)
+        public void replayGame(TurnAllocationBenchmark benchmark) {
+            game = newGame();
+            game.addGameListener(new GameListener() {
+            });
+            for (Move playedMove : benchmark.playedMoves) {
+                game.playerFinishTurn(playedMove);
+            }
+            move = benchmark.move;
+        }
+
+        @TearDown(Level.Invocation)
+        public void endGame() {
+            game.handleEndingForCloseWindow();
+        }
+    }
+
+    /**
+     * The bytes allocated while finishing the turns of an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Allocations {
+        public long allocatedBytes;
+        public long allocatingTurns;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            allocatedBytes = 0;
+            allocatingTurns = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Logger.getLogger(Logging.class.getCanonicalName()).setLevel(java.util.logging.Level.WARNING);
+        game = newGame();
+        for (int played = 0; played < turn && game.getGameState() == Game.GAME_STATE.GAME_RUNNING; played++) {
+            Move playedMove = game.playComputerTurn();
+            if (playedMove.isEmpty()) {
+                throw new IllegalStateException("The computer player swapped or skipped in turn " + played
+                        + ", so the game cannot be replayed");
+            }
+            playedMoves.add(playedMove);
+        }
+        wordValidator = WordValidatorRegistry.getInstance().acquire(Config.LANGUAGE.EN);
+        Scoring scoring = Scoring.forLanguage(Config.LANGUAGE.EN);
+        moveEvaluator = new MoveEvaluator(wordValidator, scoring);
+        board = game.getBoard();
+        crossChecks = game.getCrossChecks();
+        ScoredMove bestMove = new MoveGenerator(wordValidator, scoring)
+                .findBestMove(board, crossChecks, game.getCurrentPlayer().getTileList());
+        if (bestMove == null) {
+            throw new IllegalStateException("The current player has no legal move after turn " + turn);
+        }
+        move = bestMove.move();
+    }
+
+    private static Game newGame() {
+        Game game = new Game();
+        game.setUpGame(Config.LANGUAGE.EN, List.of(new ComputerPlayer("Computer1"), new ComputerPlayer("Computer2")), SEED);
+        return game;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        game.handleEndingForCloseWindow();
+        WordValidatorRegistry.getInstance().release(Config.LANGUAGE.EN);
+    }
+
+    @Benchmark
+    public boolean validateMove() {
+        return move.isValidOn(board);
+    }
+
+    @Benchmark
+    public int scoreMove() {
+        return moveEvaluator.score(board, move);
+    }
+
+    @Benchmark
+    public void applyAndUndoMove() {
+        move.applyTo(board);
+        crossChecks.update(board, move);
+        move.undo(board);
+        crossChecks.update(board, move);
+    }
+
+    @Benchmark
+    public boolean finishTurn(FinishTurnState state, Allocations allocations) {
+        long allocatedBytes = Metrics.allocatedBytes();
+        boolean finished = state.game.playerFinishTurn(state.move);
+        allocatedBytes = Metrics.allocatedBytes() - allocatedBytes;
+        if (!finished) {
+            throw new IllegalStateException("The move of the benchmark was rejected");
+        }
+        allocations.allocatedBytes += allocatedBytes;
+        if (allocatedBytes > 0) {
+            allocations.allocatingTurns++;
+        }
+        return finished;
+    }
+}
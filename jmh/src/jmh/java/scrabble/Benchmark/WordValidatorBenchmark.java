@@ -0,0 +1,135 @@
+package scrabble.Benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import scrabble.Dictionary.LexiconFile;
+import scrabble.Model.Tile;
+import scrabble.WordValidator;
+import scrabble.config.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks constructing a {@link WordValidator} and looking up words with and without jokers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WordValidatorBenchmark {
+    private static final int WORDS = 1024;
+
+    @Param({"EN", "DE"})
+    private Config.LANGUAGE language;
+
+    private File wordListFile;
+    private WordValidator wordValidator;
+    private String[] knownWords;
+    private String[] unknownWords;
+    private String[] wordsWithJoker;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        wordListFile = language == Config.LANGUAGE.EN ? Config.enWordList : Config.deWordList;
+        wordValidator = new WordValidator(wordListFile, tilesOf(language));
+        List<String> words = new ArrayList<>();
+        wordValidator.getLexicon().forEachWithPrefix("", words::add);
+        Random random = new Random(42);
+        knownWords = new String[WORDS];
+        unknownWords = new String[WORDS];
+        wordsWithJoker = new String[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            String word = words.get(random.nextInt(words.size())).toUpperCase();
+            knownWords[i] = word;
+            unknownWords[i] = word + "Q";
+            char[] letters = word.toCharArray();
+            letters[random.nextInt(letters.length)] = WordValidator.JOKER;
+            wordsWithJoker[i] = new String(letters);
+        }
+    }
+
+    static Map<Tile, Integer> tilesOf(Config.LANGUAGE language) {
+        return language == Config.LANGUAGE.EN ? Config.EN_TILES : Config.DE_TILES;
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (WORDS - 1);
+        return next;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public WordValidator constructFromCompiledLexicon() throws IOException {
+        return new WordValidator(wordListFile, tilesOf(language));
+    }
+
+    @Benchmark
+    public boolean containsKnownWord() {
+        return wordValidator.containsWord(knownWords[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsUnknownWord() {
+        return wordValidator.containsWord(unknownWords[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsWordWithJoker() {
+        return wordValidator.containsWord(wordsWithJoker[nextIndex()]);
+    }
+
+    @Benchmark
+    public void containsAllWords(Blackhole blackhole) {
+        for (String word : knownWords) {
+            blackhole.consume(wordValidator.containsWord(word));
+        }
+    }
+
+    /**
+     * Benchmarks compiling the word list into a binary lexicon file, which happens on the first start and whenever
+     * the word list changes.
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public static class Compile {
+        @Param({"EN", "DE"})
+        private Config.LANGUAGE language;
+
+        private File compiledFile;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            compiledFile = File.createTempFile("benchmark", ".lex");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(compiledFile.toPath());
+        }
+
+        @Benchmark
+        public File compileWordList() throws IOException {
+            File wordListFile = language == Config.LANGUAGE.EN ? Config.enWordList : Config.deWordList;
+            LexiconFile.compile(wordListFile, compiledFile, (parsedBytes, totalBytes) -> {
+            });
+            return compiledFile;
+        }
+    }
+}